@@ -0,0 +1,135 @@
+package com.hermes.attendanceservice.service;
+
+import com.hermes.attendanceservice.dto.DailyWorkSummary;
+import com.hermes.attendanceservice.dto.WeeklyWorkSummary;
+import com.hermes.attendanceservice.entity.Attendance;
+import com.hermes.attendanceservice.entity.WorkStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 주간 요약 계산 처리량 측정 (DB 조회 제외)
+ * legacyCalculate 는 기존 방식(요일마다 기록 전체 탐색, 필드마다 포매터 생성)의 기준값이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WeeklySummaryCalculatorBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final LocalDate WEEK_START = LocalDate.of(2025, 3, 2); // 일요일
+
+    /** 한 주에 기록이 있는 날 수 */
+    @Param({"5", "7"})
+    private int recordedDays;
+
+    private WeeklySummaryCalculator calculator;
+    private List<List<Attendance>> weeks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        calculator = new WeeklySummaryCalculator();
+        Random random = new Random(42);
+        WorkStatus[] statuses = {WorkStatus.REGULAR, WorkStatus.REGULAR, WorkStatus.REGULAR, WorkStatus.LATE, WorkStatus.VACATION};
+
+        weeks = new ArrayList<>(USERS);
+        for (long userId = 1; userId <= USERS; userId++) {
+            List<Attendance> records = new ArrayList<>(recordedDays);
+            for (int day = 0; day < recordedDays; day++) {
+                LocalDate date = WEEK_START.plusDays(day);
+                LocalDateTime checkIn = date.atTime(8, 30).plusMinutes(random.nextInt(60));
+                records.add(Attendance.builder()
+                        .userId(userId)
+                        .date(date)
+                        .checkIn(checkIn)
+                        .checkOut(checkIn.plusHours(8).plusMinutes(random.nextInt(180)))
+                        .status(statuses[random.nextInt(statuses.length)])
+                        .build());
+            }
+            weeks.add(records);
+        }
+    }
+
+    @Benchmark
+    public WeeklyWorkSummary calculate() {
+        int i = next++ % USERS;
+        return calculator.calculate((long) i, WEEK_START, weeks.get(i));
+    }
+
+    @Benchmark
+    public WeeklyWorkSummary legacyCalculate() {
+        int i = next++ % USERS;
+        return legacy((long) i, WEEK_START, weeks.get(i));
+    }
+
+    private static WeeklyWorkSummary legacy(Long userId, LocalDate weekStart, List<Attendance> records) {
+        Map<LocalDate, Long> daily = new LinkedHashMap<>();
+        for (int i = 0; i < 7; i++) daily.put(weekStart.plusDays(i), 0L);
+
+        long totalMinutes = 0L;
+        double regularWorkHours = 0.0;
+        double lateWorkHours = 0.0;
+        double vacationHours = 0.0;
+
+        for (Attendance a : records) {
+            if (a.getCheckIn() == null || a.getCheckOut() == null) continue;
+            final long minutes = ChronoUnit.MINUTES.between(a.getCheckIn(), a.getCheckOut());
+            final long validMinutes = minutes < 0 ? 0 : minutes;
+            daily.computeIfPresent(a.getDate(), (d, m) -> m + validMinutes);
+            totalMinutes += validMinutes;
+
+            double hours = validMinutes / 60.0;
+            switch (a.getStatus()) {
+                case LATE -> lateWorkHours += hours;
+                case VACATION -> vacationHours += hours;
+                default -> regularWorkHours += hours;
+            }
+        }
+
+        double totalWorkHours = totalMinutes / 60.0;
+        List<DailyWorkSummary> dailySummaries = daily.entrySet().stream()
+                .map(entry -> {
+                    LocalDate date = entry.getKey();
+                    Long minutes = entry.getValue();
+                    Attendance record = records.stream().filter(r -> r.getDate().equals(date)).findFirst().orElse(null);
+                    return DailyWorkSummary.builder()
+                            .date(date)
+                            .status(record != null ? record.getStatus().name() : "NO_RECORD")
+                            .workMinutes(minutes.doubleValue())
+                            .workHours(minutes / 60.0)
+                            .checkInTime(record != null && record.getCheckIn() != null ?
+                                    record.getCheckIn().format(DateTimeFormatter.ofPattern("HH:mm:ss")) : null)
+                            .checkOutTime(record != null && record.getCheckOut() != null ?
+                                    record.getCheckOut().format(DateTimeFormatter.ofPattern("HH:mm:ss")) : null)
+                            .workDuration(minutes / 60 + "시간 " + minutes % 60 + "분")
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return WeeklyWorkSummary.builder()
+                .userId(userId)
+                .weekStart(weekStart)
+                .weekEnd(weekStart.plusDays(6))
+                .totalWorkMinutes(totalMinutes)
+                .totalWorkHours(totalWorkHours)
+                .workDays((int) records.stream().filter(a -> a.getCheckIn() != null).count())
+                .regularWorkHours(regularWorkHours)
+                .lateWorkHours(lateWorkHours)
+                .overtimeHours(Math.max(0, totalWorkHours - 40.0))
+                .vacationHours(vacationHours)
+                .dailySummaries(dailySummaries)
+                .build();
+    }
+}
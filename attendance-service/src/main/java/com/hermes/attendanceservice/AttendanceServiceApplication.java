@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EntityScan("com.hermes.attendanceservice.entity")
 @EnableJpaRepositories("com.hermes.attendanceservice.repository")
+@EnableScheduling
 public class AttendanceServiceApplication {
 
 	public static void main(String[] args) {
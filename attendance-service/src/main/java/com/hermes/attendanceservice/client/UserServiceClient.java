@@ -0,0 +1,47 @@
+package com.hermes.attendanceservice.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * user-service 호출 클라이언트 - 조직(부서) 구성원 ID 조회에만 사용한다.
+ * 재실 현황 브로드캐스트 스레드에서도 호출되므로 연결/응답 대기 시간을 제한한다.
+ */
+@Component
+public class UserServiceClient {
+
+    private final RestClient restClient;
+
+    public UserServiceClient(RestClient.Builder builder,
+                             @Value("${attendance.user-service.base-url:http://localhost:8081}") String baseUrl,
+                             @Value("${attendance.user-service.connect-timeout-ms:1000}") long connectTimeoutMs,
+                             @Value("${attendance.user-service.read-timeout-ms:2000}") long readTimeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = builder.baseUrl(baseUrl).requestFactory(requestFactory).build();
+    }
+
+    /** 하위 조직을 포함한 조직 구성원 ID 목록 */
+    public List<Long> getOrganizationMemberIds(Long organizationId) {
+        try {
+            MemberIdsResponse response = restClient.get()
+                    .uri("/api/organizations/{organizationId}/member-ids", organizationId)
+                    .retrieve()
+                    .body(MemberIdsResponse.class);
+            return response != null && response.data() != null ? response.data() : List.of();
+        } catch (RestClientException e) {
+            throw new IllegalStateException("조직 구성원 조회에 실패했습니다. (organizationId=" + organizationId + ")", e);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record MemberIdsResponse(List<Long> data) {}
+}
@@ -2,22 +2,38 @@ package com.hermes.attendanceservice.controller;
 
 import com.hermes.attendanceservice.common.ApiResponse;
 import com.hermes.attendanceservice.dto.AttendanceResponse;
+import com.hermes.attendanceservice.dto.AttendanceRollupRequest;
+import com.hermes.attendanceservice.dto.BulkStatusRequest;
+import com.hermes.attendanceservice.dto.BulkStatusResult;
+import com.hermes.attendanceservice.dto.CloseOutResult;
 import com.hermes.attendanceservice.dto.WeeklyWorkSummary;
 import com.hermes.attendanceservice.dto.WeeklyWorkDetail;
 import com.hermes.attendanceservice.dto.WeeklyWorkStats;
 import com.hermes.attendanceservice.dto.CheckInRequest;
 import com.hermes.attendanceservice.dto.CheckOutRequest;
 import com.hermes.attendanceservice.entity.WorkStatus;
+import com.hermes.attendanceservice.export.AttendanceExportFormat;
+import com.hermes.attendanceservice.service.AttendanceCloseOutJob;
+import com.hermes.attendanceservice.service.AttendanceExportService;
+import com.hermes.attendanceservice.service.AttendanceIngestionService;
+import com.hermes.attendanceservice.service.AttendanceRollupService;
 import com.hermes.attendanceservice.service.AttendanceService;
+import com.hermes.attendanceservice.service.BulkStatusService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.TemporalAdjusters;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,12 +41,18 @@ import java.time.temporal.TemporalAdjusters;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final AttendanceIngestionService attendanceIngestionService;
+    private final AttendanceRollupService attendanceRollupService;
+    private final AttendanceExportService attendanceExportService;
+    private final BulkStatusService bulkStatusService;
+    private final AttendanceCloseOutJob attendanceCloseOutJob;
 
     @PostMapping("/check-in")
     public ApiResponse<AttendanceResponse> checkIn(@RequestBody CheckInRequest request) {
         try {
-            AttendanceResponse response = attendanceService.checkIn(request.getUserId(), request.getCheckIn());
-            return ApiResponse.success("출근 기록이 성공적으로 등록되었습니다.", response);
+            AttendanceResponse response = attendanceIngestionService.checkIn(request.getUserId(), request.getCheckIn());
+            return ApiResponse.success(attendanceIngestionService.isQueued()
+                    ? "출근 기록이 접수되었습니다." : "출근 기록이 성공적으로 등록되었습니다.", response);
         } catch (Exception e) {
             return ApiResponse.failure("출근 기록 등록에 실패했습니다: " + e.getMessage());
         }
@@ -39,8 +61,9 @@ public class AttendanceController {
     @PostMapping("/check-out")
     public ApiResponse<AttendanceResponse> checkOut(@RequestBody CheckOutRequest request) {
         try {
-            AttendanceResponse response = attendanceService.checkOut(request.getUserId(), request.getCheckOut());
-            return ApiResponse.success("퇴근 기록이 성공적으로 등록되었습니다.", response);
+            AttendanceResponse response = attendanceIngestionService.checkOut(request.getUserId(), request.getCheckOut());
+            return ApiResponse.success(attendanceIngestionService.isQueued()
+                    ? "퇴근 기록이 접수되었습니다." : "퇴근 기록이 성공적으로 등록되었습니다.", response);
         } catch (Exception e) {
             return ApiResponse.failure("퇴근 기록 등록에 실패했습니다: " + e.getMessage());
         }
@@ -68,6 +91,32 @@ public class AttendanceController {
         }
     }
 
+    /** 휴일/연차/출장 등 여러 사용자·기간의 상태 일괄 기록 */
+    @PostMapping("/status/bulk")
+    public ApiResponse<BulkStatusResult> markStatuses(@RequestBody BulkStatusRequest request) {
+        try {
+            BulkStatusResult result = bulkStatusService.markStatuses(request);
+            return ApiResponse.success("근무 상태가 일괄 기록되었습니다.", result);
+        } catch (Exception e) {
+            return ApiResponse.failure("근무 상태 일괄 기록에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /** 일 마감 수동 실행 (야간 작업 재실행용) */
+    @PostMapping("/close-out")
+    public ApiResponse<CloseOutResult> closeOut(@RequestParam
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                LocalDate date) {
+        try {
+            CloseOutResult result = attendanceCloseOutJob.closeOut(date);
+            return result.isSkipped()
+                    ? ApiResponse.rejected("다른 인스턴스에서 마감 작업이 진행 중입니다.")
+                    : ApiResponse.success("일 마감이 완료되었습니다.", result);
+        } catch (Exception e) {
+            return ApiResponse.failure("일 마감에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     /** 이번 주(일~토) 상세 */
     @GetMapping("/weekly/this")
     public ApiResponse<WeeklyWorkDetail> getThisWeek(@RequestParam Long userId) {
@@ -158,4 +207,44 @@ public class AttendanceController {
             return ApiResponse.failure("이번 주 근무 통계 조회에 실패했습니다: " + e.getMessage());
         }
     }
+
+    /** 여러 사용자(또는 부서) 기간 집계 - 사용자별 합계와 날짜별 상태 인원 수를 스트리밍으로 응답 */
+    @PostMapping("/rollup")
+    public ResponseEntity<?> getRollup(@RequestBody AttendanceRollupRequest request) {
+        List<Long> userIds;
+        try {
+            userIds = attendanceRollupService.resolveUserIds(request);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure("근태 집계 조회에 실패했습니다: " + e.getMessage()));
+        }
+
+        StreamingResponseBody body = out ->
+                attendanceRollupService.writeRollup(userIds, request.getFrom(), request.getTo(), out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /** 급여 정산용 근태 내보내기 (format: csv | xlsx) - 파일로 스트리밍 */
+    @GetMapping("/export")
+    public ResponseEntity<?> export(@RequestParam
+                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                    LocalDate from,
+                                    @RequestParam
+                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                    LocalDate to,
+                                    @RequestParam(defaultValue = "csv") String format) {
+        AttendanceExportFormat exportFormat;
+        try {
+            exportFormat = AttendanceExportFormat.valueOf(format.trim().toUpperCase());
+            attendanceExportService.validateRange(from, to);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure("근태 내보내기에 실패했습니다: " + e.getMessage()));
+        }
+
+        String filename = "attendance_" + from + "_" + to + "." + exportFormat.getExtension();
+        StreamingResponseBody body = out -> attendanceExportService.export(from, to, exportFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
 }
@@ -0,0 +1,40 @@
+package com.hermes.attendanceservice.controller;
+
+import com.hermes.attendanceservice.common.ApiResponse;
+import com.hermes.attendanceservice.dto.PresenceSnapshot;
+import com.hermes.attendanceservice.presence.PresenceBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/attendance/presence")
+public class PresenceController {
+
+    private final PresenceBroadcaster presenceBroadcaster;
+
+    /** 현재 재실 현황 (상태별 인원/구성원) - DB 조회 없이 메모리 인덱스에서 응답 */
+    @GetMapping
+    public ApiResponse<PresenceSnapshot> getPresence(@RequestParam(required = false) Long organizationId,
+                                                     @RequestParam(defaultValue = "true") boolean members) {
+        try {
+            return ApiResponse.success("재실 현황을 성공적으로 조회했습니다.", presenceBroadcaster.snapshot(organizationId, members));
+        } catch (Exception e) {
+            return ApiResponse.failure("재실 현황 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /** 재실 현황 실시간 구독 (SSE, 변경 시 presence 이벤트) */
+    @GetMapping("/stream")
+    public SseEmitter stream(@RequestParam(required = false) Long organizationId,
+                             @RequestParam(defaultValue = "true") boolean members) {
+        try {
+            return presenceBroadcaster.subscribe(organizationId, members);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "재실 현황 구독에 실패했습니다: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.hermes.attendanceservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceRollupRequest {
+    private List<Long> userIds;   // 조회할 사용자 ID 목록 (departmentId 와 함께 주면 합집합)
+    private Long departmentId;    // 조직(부서) ID - 하위 조직 구성원 포함
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate from;       // 시작일 (포함)
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate to;         // 종료일 (포함)
+}
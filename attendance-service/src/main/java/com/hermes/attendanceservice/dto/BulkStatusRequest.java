@@ -0,0 +1,38 @@
+package com.hermes.attendanceservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.hermes.attendanceservice.entity.WorkStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusRequest {
+    private List<Entry> entries;          // (사용자, 기간, 상태) 목록
+
+    @Builder.Default
+    private boolean autoRecorded = true;  // 자동 기록 여부 (markStatus 와 동일한 기본값)
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long userId;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate from;           // 시작일 (포함)
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate to;             // 종료일 (포함, 생략 시 from 하루)
+
+        private WorkStatus status;        // 연차/출장/외근/재택 등
+    }
+}
@@ -0,0 +1,18 @@
+package com.hermes.attendanceservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResult {
+    private int entries;        // 요청 항목 수
+    private long requestedDays; // 항목별 기간을 펼친 (사용자, 날짜) 수
+    private long affectedRows;  // 새로 만들거나 상태를 바꾼 행 수
+    private int chunks;         // 나눠 커밋한 트랜잭션 수
+    private long elapsedMs;
+}
@@ -0,0 +1,23 @@
+package com.hermes.attendanceservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CloseOutResult {
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+    private boolean skipped;        // 다른 인스턴스가 처리 중이라 건너뜀
+    private int autoCheckedOut;     // 자동 퇴근 처리 수
+    private int markedAbsent;       // 미출근 → 결근 처리 수
+    private int insertedAbsent;     // 기록이 없어 결근 행을 만든 수
+    private long elapsedMs;
+}
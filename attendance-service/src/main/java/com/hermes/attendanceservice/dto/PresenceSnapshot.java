@@ -0,0 +1,28 @@
+package com.hermes.attendanceservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hermes.attendanceservice.presence.PresenceState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PresenceSnapshot {
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+    private Long organizationId;                      // 조직 필터 (전체면 null)
+    private long version;                             // 변경될 때마다 증가
+    private int present;                              // 지금 근무 중 (사무실 + 재택/출장/외근)
+    private Map<PresenceState, Integer> counts;       // 상태별 인원
+    private Map<PresenceState, List<Long>> members;   // 상태별 사용자 ID (members=false 면 null)
+}
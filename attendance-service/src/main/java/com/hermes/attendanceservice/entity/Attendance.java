@@ -9,7 +9,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "attendance")
+@Table(name = "attendance",
+       uniqueConstraints = @UniqueConstraint(name = "ux_attendance_user_date", columnNames = {"user_id", "date"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
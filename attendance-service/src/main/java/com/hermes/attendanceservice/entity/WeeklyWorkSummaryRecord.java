@@ -0,0 +1,54 @@
+package com.hermes.attendanceservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 주간(일~토) 근무 요약 - 출퇴근/상태 변경 시 갱신되는 materialized 행.
+ * 주간 조회는 (user_id, week_start) 기본키 조회 한 번으로 끝난다.
+ */
+@Entity
+@Table(name = "weekly_work_summary")
+@IdClass(WeeklyWorkSummaryRecord.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyWorkSummaryRecord {
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Id
+  @Column(name = "week_start")
+  private LocalDate weekStart; // 주 시작일 (일요일)
+
+  private LocalDate weekEnd; // 주 종료일 (토요일)
+
+  private long totalWorkMinutes;
+  private int workDays;
+  private double regularWorkHours;
+  private double lateWorkHours;
+  private double overtimeHours;
+  private double vacationHours;
+
+  @Column(columnDefinition = "TEXT")
+  private String dailySummaries; // 일별 요약 (JSON)
+
+  private LocalDateTime updatedAt;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long userId;
+    private LocalDate weekStart;
+  }
+}
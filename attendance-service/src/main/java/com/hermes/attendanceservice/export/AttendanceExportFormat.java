@@ -0,0 +1,30 @@
+package com.hermes.attendanceservice.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** 내보내기 형식 */
+public enum AttendanceExportFormat {
+  CSV("text/csv; charset=UTF-8", "csv"),
+  XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+  private final String contentType;
+  private final String extension;
+
+  AttendanceExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public AttendanceExportSink open(OutputStream out) throws IOException {
+    return this == CSV ? new CsvExportSink(out) : new XlsxExportSink(out);
+  }
+}
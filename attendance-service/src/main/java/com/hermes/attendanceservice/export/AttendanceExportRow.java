@@ -0,0 +1,16 @@
+package com.hermes.attendanceservice.export;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** 내보내기 한 행 (출퇴근 기록 1건) - 초과근무는 그날 8시간을 넘긴 시간 (주 40시간 기준 아님) */
+public record AttendanceExportRow(long userId,
+                                  LocalDate date,
+                                  String status,
+                                  LocalDateTime checkIn,
+                                  LocalDateTime checkOut,
+                                  long workMinutes,
+                                  long dailyOvertimeMinutes) {
+
+    static final String[] HEADERS = {"사용자ID", "날짜", "상태", "출근", "퇴근", "근무(분)", "일 초과근무(분)"};
+}
@@ -0,0 +1,18 @@
+package com.hermes.attendanceservice.export;
+
+import java.io.IOException;
+
+/**
+ * 행을 받는 즉시 출력 스트림으로 내보내는 기록기. close 시 남은 내용을 모두 쓴다.
+ * 중간에 실패하면 close 대신 abort 를 호출해 잘린 파일이 정상 파일처럼 나가지 않게 한다.
+ */
+public interface AttendanceExportSink extends AutoCloseable {
+
+    void write(AttendanceExportRow row) throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    /** 실패 시 정리 - 아직 내보내지 않은 내용은 버리고, 이미 일부를 내보냈다면 실패 표시를 남긴다 */
+    void abort() throws IOException;
+}
@@ -0,0 +1,80 @@
+package com.hermes.attendanceservice.export;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * CSV 기록기 - 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 먼저 쓴다.
+ * 첫 64KB 는 버퍼에만 두므로 그 전에 실패하면 응답이 시작되지 않아 오류 상태로 끝난다.
+ */
+class CsvExportSink implements AttendanceExportSink {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String FAILURE_TRAILER = "# 내보내기 실패 - 위 행까지만 포함된 불완전한 파일입니다";
+
+    private final Writer writer;
+    private boolean started;
+
+    CsvExportSink(OutputStream out) throws IOException {
+        OutputStream tracked = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                started = true;
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                started = true;
+                out.write(b);
+            }
+        };
+        this.writer = new BufferedWriter(new OutputStreamWriter(tracked, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write('\uFEFF');
+        writer.write(String.join(",", AttendanceExportRow.HEADERS));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(AttendanceExportRow row) throws IOException {
+        // 상태 값은 enum 이름이라 따옴표 처리가 필요 없다
+        writer.write(Long.toString(row.userId()));
+        writer.write(',');
+        writer.write(row.date().toString());
+        writer.write(',');
+        writer.write(row.status());
+        writer.write(',');
+        if (row.checkIn() != null) writer.write(TIME.format(row.checkIn()));
+        writer.write(',');
+        if (row.checkOut() != null) writer.write(TIME.format(row.checkOut()));
+        writer.write(',');
+        writer.write(Long.toString(row.workMinutes()));
+        writer.write(',');
+        writer.write(Long.toString(row.dailyOvertimeMinutes()));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    // 아직 아무것도 내보내지 않았다면 버퍼를 버리고, 이미 내보냈다면 마지막 줄에 실패를 표시
+    @Override
+    public void abort() throws IOException {
+        if (!started) {
+            return;
+        }
+        writer.write("\r\n");
+        writer.write(FAILURE_TRAILER);
+        writer.write("\r\n");
+        writer.flush();
+    }
+}
@@ -0,0 +1,94 @@
+package com.hermes.attendanceservice.export;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * XLSX 기록기 - SXSSF 로 최근 행만 메모리에 두고 나머지는 임시 파일로 내린다.
+ * 시트 최대 행 수를 넘으면 다음 시트로 이어서 쓴다.
+ */
+class XlsxExportSink implements AttendanceExportSink {
+
+    private static final int WINDOW_SIZE = 200;
+    private static final int MAX_ROWS_PER_SHEET = 1_048_575; // 헤더 제외
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+    private Sheet sheet;
+    private int rowIndex;
+    private int sheetCount;
+
+    XlsxExportSink(OutputStream out) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(WINDOW_SIZE);
+        this.workbook.setCompressTempFiles(true);
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+        this.dateTimeStyle = workbook.createCellStyle();
+        this.dateTimeStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+        newSheet();
+    }
+
+    @Override
+    public void write(AttendanceExportRow r) {
+        if (rowIndex > MAX_ROWS_PER_SHEET) {
+            newSheet();
+        }
+        Row row = sheet.createRow(rowIndex++);
+        row.createCell(0).setCellValue(r.userId());
+        Cell date = row.createCell(1);
+        date.setCellValue(r.date());
+        date.setCellStyle(dateStyle);
+        row.createCell(2).setCellValue(r.status());
+        setDateTime(row, 3, r.checkIn());
+        setDateTime(row, 4, r.checkOut());
+        row.createCell(5).setCellValue(r.workMinutes());
+        row.createCell(6).setCellValue(r.dailyOvertimeMinutes());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    // 워크북은 close 에서 한 번에 쓰므로 실패 시에는 아무것도 쓰지 않고 임시 파일만 지운다
+    @Override
+    public void abort() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    private void setDateTime(Row row, int column, LocalDateTime value) {
+        if (value == null) {
+            return;
+        }
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(dateTimeStyle);
+    }
+
+    private void newSheet() {
+        sheet = workbook.createSheet(sheetCount == 0 ? "근태" : "근태 (" + (sheetCount + 1) + ")");
+        sheetCount++;
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < AttendanceExportRow.HEADERS.length; i++) {
+            header.createCell(i).setCellValue(AttendanceExportRow.HEADERS[i]);
+        }
+        rowIndex = 1;
+    }
+}
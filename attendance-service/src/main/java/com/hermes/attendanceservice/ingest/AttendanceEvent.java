@@ -0,0 +1,30 @@
+package com.hermes.attendanceservice.ingest;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그에 기록되는 출퇴근 이벤트 한 건.
+ * endOffset 은 로그 파일에서 이 이벤트가 끝나는 위치 (체크포인트 기준).
+ */
+public record AttendanceEvent(Type type, Long userId, LocalDateTime time, long endOffset) {
+
+    public enum Type { CHECK_IN, CHECK_OUT }
+
+    /** 로그 한 줄 형식: I|userId|2025-01-01T09:00:00 */
+    String toLine() {
+        return (type == Type.CHECK_IN ? "I" : "O") + "|" + userId + "|" + time + "\n";
+    }
+
+    static AttendanceEvent parse(String line, long endOffset) {
+        String[] parts = line.split("\\|");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("잘못된 이벤트 형식: " + line);
+        }
+        Type type = switch (parts[0]) {
+            case "I" -> Type.CHECK_IN;
+            case "O" -> Type.CHECK_OUT;
+            default -> throw new IllegalArgumentException("알 수 없는 이벤트 유형: " + parts[0]);
+        };
+        return new AttendanceEvent(type, Long.valueOf(parts[1]), LocalDateTime.parse(parts[2]), endOffset);
+    }
+}
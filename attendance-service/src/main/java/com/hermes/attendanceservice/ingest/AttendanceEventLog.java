@@ -0,0 +1,211 @@
+package com.hermes.attendanceservice.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 출퇴근 이벤트 로컬 append-only 로그.
+ * 이벤트는 fsync 이후에 응답하며, fsync 는 동시에 기다리는 append 들을 한 번에 묶어서 처리한다 (group fsync).
+ * DB 반영이 끝난 위치는 checkpoint 파일에 기록하고, 기동 시 그 이후 이벤트를 다시 읽어 재반영한다.
+ * 반영할 수 없는 이벤트는 dead-letter 파일에 사유와 함께 남긴다.
+ */
+@Slf4j
+public class AttendanceEventLog implements Closeable {
+
+    private final Path logFile;
+    private final Path checkpointFile;
+    private final Path deadLetterFile;
+    private final long compactThresholdBytes;
+    private final FileChannel channel;
+
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private long writePosition;
+    private volatile long syncedPosition;
+
+    public AttendanceEventLog(Path directory, long compactThresholdBytes) throws IOException {
+        Files.createDirectories(directory);
+        this.logFile = directory.resolve("events.log");
+        this.checkpointFile = directory.resolve("checkpoint");
+        this.deadLetterFile = directory.resolve("dead-letter.log");
+        this.compactThresholdBytes = compactThresholdBytes;
+        this.channel = FileChannel.open(logFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.writePosition = truncateTornTail();
+        this.syncedPosition = writePosition;
+        channel.position(writePosition);
+    }
+
+    /**
+     * 이벤트를 기록하고 디스크에 반영될 때까지 대기한다.
+     * onAppended 는 기록 순서와 같은 순서로 호출된다 (append 잠금 안에서 호출).
+     */
+    public AttendanceEvent append(AttendanceEvent.Type type, Long userId, LocalDateTime time,
+                                  Consumer<AttendanceEvent> onAppended) {
+        AttendanceEvent event;
+        synchronized (appendLock) {
+            String line = new AttendanceEvent(type, userId, time, 0).toLine();
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            try {
+                while (buffer.hasRemaining()) {
+                    writePosition += channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("출퇴근 이벤트 로그 기록 실패", e);
+            }
+            event = new AttendanceEvent(type, userId, time, writePosition);
+            onAppended.accept(event);
+        }
+        sync(event.endOffset());
+        return event;
+    }
+
+    /** offset 까지 디스크 반영 - 이미 다른 스레드가 반영했으면 바로 반환 */
+    public void sync(long offset) {
+        if (syncedPosition >= offset) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (syncedPosition >= offset) {
+                return;
+            }
+            long target;
+            synchronized (appendLock) {
+                target = writePosition;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("출퇴근 이벤트 로그 fsync 실패", e);
+            }
+            syncedPosition = target;
+        }
+    }
+
+    /** checkpoint 이후의 (아직 DB 에 반영되지 않았을 수 있는) 이벤트 */
+    public List<AttendanceEvent> readPending() throws IOException {
+        long from = readCheckpoint();
+        List<AttendanceEvent> events = new ArrayList<>();
+        long offset = from;
+        byte[] bytes;
+        synchronized (appendLock) {
+            bytes = new byte[(int) (writePosition - from)];
+            channel.read(ByteBuffer.wrap(bytes), from);
+        }
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+                offset = from + i + 1;
+                try {
+                    events.add(AttendanceEvent.parse(line, offset));
+                } catch (RuntimeException e) {
+                    log.error("[AttendanceEventLog] 이벤트 파싱 실패 - 건너뜀: {}", line, e);
+                }
+                lineStart = i + 1;
+            }
+        }
+        return events;
+    }
+
+    /** offset 까지 DB 반영 완료 기록 (임시 파일 작성 후 원자적 교체) */
+    public void checkpoint(long offset) {
+        Path temp = checkpointFile.resolveSibling("checkpoint.tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.wrap(Long.toString(offset).getBytes(StandardCharsets.US_ASCII)));
+            out.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트 기록 실패", e);
+        }
+        try {
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트 교체 실패", e);
+        }
+    }
+
+    /** 이벤트 한 줄 뒤에 사유를 붙여 기록 (운영자가 확인 후 수동 처리) */
+    public void deadLetter(AttendanceEvent event, String reason) {
+        String line = event.toLine().stripTrailing() + "|" + String.valueOf(reason).replaceAll("\\s+", " ") + "\n";
+        try {
+            Files.writeString(deadLetterFile, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("dead-letter 기록 실패", e);
+        }
+    }
+
+    /** 모든 이벤트가 반영되었고 로그가 충분히 커졌으면 비운다 */
+    public boolean compactIfDrained(long appliedOffset) {
+        synchronized (appendLock) {
+            if (appliedOffset != writePosition || writePosition < compactThresholdBytes) {
+                return false;
+            }
+            try {
+                channel.truncate(0);
+                channel.position(0);
+                channel.force(true);
+            } catch (IOException e) {
+                throw new UncheckedIOException("출퇴근 이벤트 로그 정리 실패", e);
+            }
+            writePosition = 0;
+            syncedPosition = 0;
+            checkpoint(0);
+            log.info("[AttendanceEventLog] 반영 완료된 로그 정리 ({} bytes)", appliedOffset);
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        String text = Files.readString(checkpointFile, StandardCharsets.US_ASCII).trim();
+        long offset = text.isEmpty() ? 0 : Long.parseLong(text);
+        return Math.min(offset, writePosition);
+    }
+
+    /** 비정상 종료로 마지막 줄이 잘려 있으면 마지막 완전한 줄까지만 남긴다 */
+    private long truncateTornTail() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return 0;
+        }
+        ByteBuffer one = ByteBuffer.allocate(1);
+        long end = size;
+        while (end > 0) {
+            one.clear();
+            channel.read(one, end - 1);
+            if (one.get(0) == '\n') {
+                break;
+            }
+            end--;
+        }
+        if (end < size) {
+            log.warn("[AttendanceEventLog] 잘린 마지막 이벤트 제거 ({} bytes)", size - end);
+            channel.truncate(end);
+            channel.force(true);
+        }
+        return end;
+    }
+}
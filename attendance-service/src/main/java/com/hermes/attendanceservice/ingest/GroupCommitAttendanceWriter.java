@@ -0,0 +1,237 @@
+package com.hermes.attendanceservice.ingest;
+
+import com.hermes.attendanceservice.partition.AttendancePartitionManager;
+import com.hermes.attendanceservice.repository.AttendanceCommandRepository;
+import com.hermes.attendanceservice.repository.AttendanceCommandRepository.CheckInCommand;
+import com.hermes.attendanceservice.repository.AttendanceCommandRepository.CheckOutCommand;
+import com.hermes.attendanceservice.service.WeeklySummaryStore;
+import com.hermes.attendanceservice.service.WorkSchedule;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 큐 적재 모드(attendance.ingestion.mode=queued)의 출퇴근 기록기.
+ * 요청은 로컬 로그에 fsync 된 뒤 바로 응답하고, 별도 스레드가 쌓인 이벤트를 묶어서 한 트랜잭션으로 반영한다.
+ * 출근/퇴근 SQL 이 (user_id, date) 기준으로 멱등이라 재기동 시 체크포인트 이후를 다시 반영해도 결과가 같다.
+ * 연결 오류 등은 성공할 때까지 재시도하고, 데이터 자체가 잘못된 이벤트는 dead-letter 로 옮기고 건너뛴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "attendance.ingestion.mode", havingValue = "queued")
+public class GroupCommitAttendanceWriter {
+
+    private final AttendanceCommandRepository attendanceCommandRepository;
+    private final WorkSchedule workSchedule;
+    private final WeeklySummaryStore weeklySummaryStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<AttendancePartitionManager> partitionManager;
+    private final LinkedBlockingQueue<AttendanceEvent> queue = new LinkedBlockingQueue<>();
+
+    @Value("${attendance.ingestion.log-dir:./data/attendance-ingest}")
+    private String logDir;
+
+    @Value("${attendance.ingestion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${attendance.ingestion.max-wait-ms:20}")
+    private long maxWaitMs;
+
+    @Value("${attendance.ingestion.compact-threshold-bytes:16777216}")
+    private long compactThresholdBytes;
+
+    private AttendanceEventLog eventLog;
+    private Thread worker;
+    private volatile boolean running;
+    private long appliedOffset;
+
+    public GroupCommitAttendanceWriter(AttendanceCommandRepository attendanceCommandRepository,
+                                       WorkSchedule workSchedule,
+                                       WeeklySummaryStore weeklySummaryStore,
+                                       PlatformTransactionManager transactionManager,
+                                       ObjectProvider<AttendancePartitionManager> partitionManager) {
+        this.attendanceCommandRepository = attendanceCommandRepository;
+        this.workSchedule = workSchedule;
+        this.weeklySummaryStore = weeklySummaryStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionManager = partitionManager;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        // 파티션 전환이 켜져 있으면 테이블 전환이 끝난 뒤에 재반영한다
+        partitionManager.ifAvailable(AttendancePartitionManager::initialize);
+        eventLog = new AttendanceEventLog(Path.of(logDir), compactThresholdBytes);
+        List<AttendanceEvent> pending = eventLog.readPending();
+        if (!pending.isEmpty()) {
+            log.info("[GroupCommitWriter] 미반영 이벤트 {}건 재반영", pending.size());
+            queue.addAll(pending);
+        }
+
+        running = true;
+        worker = new Thread(this::runLoop, "attendance-group-commit");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        eventLog.close();
+    }
+
+    /** 로그에 기록(fsync)까지 끝나면 반환 - 반영할 수 없는 값은 기록 전에 거절한다 */
+    public void submit(AttendanceEvent.Type type, Long userId, LocalDateTime time) {
+        if (type == null || userId == null || time == null) {
+            throw new IllegalArgumentException("출퇴근 이벤트에는 유형, 사용자 ID, 시각이 모두 필요합니다.");
+        }
+        eventLog.append(type, userId, time, queue::add);
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void runLoop() {
+        List<AttendanceEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AttendanceEvent first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    eventLog.compactIfDrained(appliedOffset);
+                    continue;
+                }
+                batch.add(first);
+                // 조금 기다려서 같이 들어온 요청을 한 트랜잭션으로 묶는다
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AttendanceEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                applyWithRetry(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[GroupCommitWriter] 처리 루프 오류", e);
+            }
+        }
+    }
+
+    /** 묶음 반영 후 체크포인트 (이벤트는 로그에 남아 있으므로 반영 전에는 체크포인트를 옮기지 않는다) */
+    private void applyWithRetry(List<AttendanceEvent> batch) throws InterruptedException {
+        long lastOffset = batch.get(batch.size() - 1).endOffset();
+        eventLog.sync(lastOffset);
+        if (!applyOrSkip(batch)) {
+            return;
+        }
+        eventLog.checkpoint(lastOffset);
+        appliedOffset = lastOffset;
+    }
+
+    /**
+     * 일시적 오류는 성공할 때까지 재시도하고, 재시도해도 소용없는 오류면 한 건씩 나눠 반영해 원인 이벤트만 dead-letter 로 보낸다.
+     * 종료 중 실패하면 false (재기동 시 체크포인트 이후부터 재반영).
+     */
+    private boolean applyOrSkip(List<AttendanceEvent> events) throws InterruptedException {
+        long backoffMs = 100;
+        while (true) {
+            try {
+                apply(events);
+                return true;
+            } catch (RuntimeException e) {
+                if (isNonTransient(e)) {
+                    return skipInvalid(events, e);
+                }
+                if (!running) {
+                    log.warn("[GroupCommitWriter] 종료 중 반영 실패 - 재기동 시 재반영: {}", e.getMessage());
+                    return false;
+                }
+                log.error("[GroupCommitWriter] {}건 반영 실패 - {}ms 후 재시도", events.size(), backoffMs, e);
+                TimeUnit.MILLISECONDS.sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, 5000);
+            }
+        }
+    }
+
+    private boolean skipInvalid(List<AttendanceEvent> events, RuntimeException cause) throws InterruptedException {
+        if (events.size() == 1) {
+            AttendanceEvent event = events.get(0);
+            log.error("[GroupCommitWriter] 반영할 수 없는 이벤트 - dead-letter 로 이동: {}", event, cause);
+            eventLog.deadLetter(event, cause.getClass().getSimpleName() + ": "
+                    + NestedExceptionUtils.getMostSpecificCause(cause).getMessage());
+            return true;
+        }
+        log.warn("[GroupCommitWriter] {}건 묶음 반영 불가 - 한 건씩 반영: {}", events.size(), cause.getMessage());
+        // 기록 순서대로 반영해야 같은 묶음 안의 퇴근이 먼저 반영된 출근 행을 찾는다
+        for (AttendanceEvent event : events) {
+            if (!applyOrSkip(List.of(event))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 같은 이벤트를 다시 반영해도 실패하는 오류 (제약 조건 위반, 잘못된 값) */
+    static boolean isNonTransient(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException
+                || e instanceof TypeMismatchDataAccessException
+                || e instanceof IllegalArgumentException;
+    }
+
+    private void apply(List<AttendanceEvent> batch) {
+        List<CheckInCommand> checkIns = new ArrayList<>();
+        List<CheckOutCommand> checkOuts = new ArrayList<>();
+        Set<Long> userIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (AttendanceEvent event : batch) {
+            userIds.add(event.userId());
+            dates.add(event.time().toLocalDate());
+            if (event.type() == AttendanceEvent.Type.CHECK_IN) {
+                checkIns.add(new CheckInCommand(event.userId(), event.time(), workSchedule.checkInStatus(event.time())));
+            } else {
+                checkOuts.add(new CheckOutCommand(event.userId(), event.time(), workSchedule.isEarlyLeave(event.time())));
+            }
+        }
+
+        // 출근을 먼저 반영해야 같은 묶음 안의 퇴근이 대상 행을 찾는다
+        int appliedCheckOuts = transactionTemplate.execute(status -> {
+            attendanceCommandRepository.batchCheckIn(checkIns);
+            int updated = attendanceCommandRepository.batchCheckOut(checkOuts);
+            // 주간 요약은 행 단위로 다시 계산하지 않고 지워 두었다가 조회 시 계산
+            weeklySummaryStore.invalidate(userIds, dates);
+            return updated;
+        });
+        log.debug("[GroupCommitWriter] 반영 - 출근 {}건, 퇴근 {}건 (반영 {}건)", checkIns.size(), checkOuts.size(), appliedCheckOuts);
+    }
+}
@@ -0,0 +1,201 @@
+package com.hermes.attendanceservice.partition;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * attendance 테이블의 월 단위 범위 파티션 관리 (PostgreSQL 선언적 파티셔닝).
+ * - 기동 시 일반 테이블이면 파티션 테이블로 전환한다 (기존 테이블은 attendance_unpartitioned 로 남김).
+ *   전환은 빈 초기화 중에 끝나므로 웹 서버가 요청을 받기 전이며, 큐 적재 기록기의 재반영도 전환 뒤에 시작된다.
+ *   테이블을 통째로 다시 쓰는 작업이라 기본값은 꺼져 있다 (attendance.partitioning.enabled).
+ * - 매일 앞으로 쓸 달의 파티션을 미리 만들고, 보존 기간이 지난 달은 분리(detach)해 보관 스키마로 옮긴다.
+ * (user_id, date) 유니크 인덱스는 파티션마다 만들어지고, 날짜 조건이 있는 조회는 해당 달의 파티션만 읽는다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")  // ddl-auto 로 attendance 테이블이 만들어진 뒤에 확인
+@ConditionalOnProperty(name = "attendance.partitioning.enabled", havingValue = "true")
+public class AttendancePartitionManager {
+
+    private static final String TABLE = "attendance";
+    private static final String DEFAULT_PARTITION = "attendance_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${attendance.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${attendance.partitioning.retention-months:24}")
+    private int retentionMonths;
+
+    @Value("${attendance.partitioning.archive-schema:attendance_archive}")
+    private String archiveSchema;
+
+    private boolean initialized;
+
+    public AttendancePartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 전환 + 다가올 달 파티션 생성. 여러 번 호출해도 한 번만 수행한다 (attendance 를 쓰는 빈이 먼저 호출할 수 있음) */
+    @PostConstruct
+    public synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+        if (!exists(TABLE)) {
+            log.warn("[PartitionManager] attendance 테이블이 없어 파티셔닝을 건너뜁니다.");
+            return;
+        }
+        if (!isPartitioned()) {
+            transactionTemplate.executeWithoutResult(status -> migrateToPartitioned());
+        }
+        ensureUpcomingPartitions();
+    }
+
+    /** 매일 새벽: 다가올 달 파티션 생성 + 오래된 달 분리 */
+    @Scheduled(cron = "${attendance.partitioning.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void maintain() {
+        if (!isPartitioned()) {
+            return;
+        }
+        ensureUpcomingPartitions();
+        archiveExpiredPartitions();
+    }
+
+    public void ensureUpcomingPartitions() {
+        YearMonth current = YearMonth.now(ZoneId.of("Asia/Seoul"));
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            transactionTemplate.executeWithoutResult(status -> createMonthPartition(month));
+        }
+    }
+
+    /** 보존 기간 이전 달 파티션을 분리해 보관 스키마로 옮긴다 (조회는 가능하지만 attendance 조회 대상에서는 빠짐) */
+    public void archiveExpiredPartitions() {
+        YearMonth cutoff = YearMonth.now(ZoneId.of("Asia/Seoul")).minusMonths(retentionMonths);
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = to_regclass(?) AND c.relname ~ '^attendance_[0-9]{6}$' ORDER BY c.relname",
+                String.class, TABLE);
+
+        for (String partition : partitions) {
+            YearMonth month = YearMonth.parse(partition.substring(TABLE.length() + 1), SUFFIX);
+            if (!month.isBefore(cutoff)) {
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+            });
+            log.info("[PartitionManager] {} 파티션 분리 → {}.{}", partition, archiveSchema, partition);
+        }
+    }
+
+    /** 일반 테이블 → 월 단위 파티션 테이블 전환 (한 트랜잭션) */
+    private void migrateToPartitioned() {
+        log.info("[PartitionManager] attendance 테이블을 월 단위 파티션 테이블로 전환합니다.");
+        jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN ACCESS EXCLUSIVE MODE");
+
+        // 제약/인덱스 이름은 스키마 단위라 새 테이블과 겹치지 않도록 기존 것의 이름을 바꾼다
+        List<String> constraints = jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE conrelid = to_regclass(?) AND contype IN ('p', 'u')",
+                String.class, TABLE);
+        for (String constraint : constraints) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME CONSTRAINT " + constraint + " TO " + constraint + "_unpartitioned");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO attendance_unpartitioned");
+
+        // 파티션 테이블의 기본키/유니크 키는 파티션 키(date)를 포함해야 한다
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (" +
+                "  id BIGINT GENERATED BY DEFAULT AS IDENTITY," +
+                "  user_id BIGINT NOT NULL," +
+                "  date DATE NOT NULL," +
+                "  check_in TIMESTAMP(6)," +
+                "  check_out TIMESTAMP(6)," +
+                "  status VARCHAR(255)," +
+                "  is_auto_recorded BOOLEAN NOT NULL DEFAULT FALSE," +
+                "  CONSTRAINT attendance_pkey PRIMARY KEY (id, date)," +
+                "  CONSTRAINT ux_attendance_user_date UNIQUE (user_id, date)" +
+                ") PARTITION BY RANGE (date)");
+
+        // 기존 데이터가 걸친 달의 파티션을 먼저 만든 뒤 옮긴다 (DEFAULT 파티션에 쌓이지 않도록)
+        LocalDate[] range = jdbcTemplate.queryForObject(
+                "SELECT MIN(date), MAX(date) FROM attendance_unpartitioned",
+                (rs, rowNum) -> new LocalDate[]{rs.getObject(1, LocalDate.class), rs.getObject(2, LocalDate.class)});
+        if (range != null && range[0] != null) {
+            for (YearMonth month = YearMonth.from(range[0]); !month.isAfter(YearMonth.from(range[1])); month = month.plusMonths(1)) {
+                createMonthPartition(month);
+            }
+        }
+        jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+
+        // date 가 없는 행은 새 테이블(NOT NULL)로 옮길 수 없어 기존 테이블에만 남는다
+        long skipped = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attendance_unpartitioned WHERE date IS NULL", Long.class);
+        if (skipped > 0) {
+            log.warn("[PartitionManager] date 가 없는 {}건은 옮기지 않았습니다 (attendance_unpartitioned 에 남음)", skipped);
+        }
+        int moved = jdbcTemplate.update(
+                "INSERT INTO " + TABLE + " (id, user_id, date, check_in, check_out, status, is_auto_recorded) " +
+                "SELECT id, user_id, date, check_in, check_out, status, is_auto_recorded FROM attendance_unpartitioned " +
+                "WHERE date IS NOT NULL");
+        jdbcTemplate.queryForObject(
+                "SELECT setval(pg_get_serial_sequence(?, 'id'), COALESCE(MAX(id), 0) + 1, false) FROM " + TABLE,
+                Long.class, TABLE);
+        log.info("[PartitionManager] 파티션 전환 완료 - {}건 이동 (기존 테이블: attendance_unpartitioned, 확인 후 삭제)", moved);
+    }
+
+    /** 해당 달 파티션이 없으면 만든다. DEFAULT 파티션에 그 달 행이 있으면 새 파티션으로 옮긴 뒤 붙인다. */
+    private void createMonthPartition(YearMonth month) {
+        String partition = TABLE + "_" + month.format(SUFFIX);
+        if (exists(partition)) {
+            return;
+        }
+        Date from = Date.valueOf(month.atDay(1));
+        Date to = Date.valueOf(month.plusMonths(1).atDay(1));
+        String bounds = "FROM ('" + from + "') TO ('" + to + "')";
+
+        boolean defaultHasRows = exists(DEFAULT_PARTITION) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE date >= ? AND date < ?)",
+                Boolean.class, from, to));
+        if (!defaultHasRows) {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + TABLE + " FOR VALUES " + bounds);
+        } else {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + TABLE + " INCLUDING DEFAULTS)");
+            jdbcTemplate.update("INSERT INTO " + partition + " SELECT * FROM " + DEFAULT_PARTITION + " WHERE date >= ? AND date < ?", from, to);
+            jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE date >= ? AND date < ?", from, to);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + partition + " FOR VALUES " + bounds);
+        }
+        log.info("[PartitionManager] {} 파티션 생성", partition);
+    }
+
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))", Boolean.class, TABLE));
+    }
+
+    private boolean exists(String table) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table);
+    }
+}
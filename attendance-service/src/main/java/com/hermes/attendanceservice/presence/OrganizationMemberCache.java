@@ -0,0 +1,37 @@
+package com.hermes.attendanceservice.presence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.attendanceservice.client.UserServiceClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 조직 → 구성원 ID 캐시 (재실 현황 조직 필터용).
+ * 대시보드가 초 단위로 조회해도 user-service 는 TTL 마다 한 번만 호출한다.
+ * 키는 클라이언트가 보낸 조직 ID 라 항목 수에 상한을 둔다.
+ */
+@Component
+public class OrganizationMemberCache {
+
+    private final UserServiceClient userServiceClient;
+    private final Cache<Long, Set<Long>> entries;
+
+    public OrganizationMemberCache(UserServiceClient userServiceClient,
+                                   @Value("${attendance.presence.organization-cache-seconds:300}") long ttlSeconds,
+                                   @Value("${attendance.presence.organization-cache-max-size:1000}") long maxSize) {
+        this.userServiceClient = userServiceClient;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /** 같은 조직을 동시에 조회하면 user-service 호출은 한 번만 한다 */
+    public Set<Long> getMemberIds(Long organizationId) {
+        return entries.get(organizationId, id -> Set.copyOf(userServiceClient.getOrganizationMemberIds(id)));
+    }
+}
@@ -0,0 +1,106 @@
+package com.hermes.attendanceservice.presence;
+
+import com.hermes.attendanceservice.dto.PresenceSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 재실 현황 SSE 구독 관리.
+ * 변경마다 보내지 않고 주기적으로 인덱스 버전을 확인해, 바뀌었을 때만 구독자별 스냅샷을 한 번씩 보낸다.
+ */
+@Slf4j
+@Component
+public class PresenceBroadcaster {
+
+    private final PresenceIndex presenceIndex;
+    private final OrganizationMemberCache organizationMemberCache;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Value("${attendance.presence.max-subscribers:200}")
+    private int maxSubscribers;
+
+    private long lastBroadcastVersion = -1;
+
+    public PresenceBroadcaster(PresenceIndex presenceIndex, OrganizationMemberCache organizationMemberCache) {
+        this.presenceIndex = presenceIndex;
+        this.organizationMemberCache = organizationMemberCache;
+    }
+
+    private record Subscription(SseEmitter emitter, Long organizationId, boolean includeMembers) {}
+
+    public SseEmitter subscribe(Long organizationId, boolean includeMembers) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new IllegalStateException("재실 현황 구독자가 너무 많습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscription subscription = new Subscription(emitter, organizationId, includeMembers);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+
+        // 구독 직후 현재 상태를 한 번 보낸다
+        if (send(subscription, new HashMap<>())) {
+            subscriptions.add(subscription);
+        }
+        return emitter;
+    }
+
+    public PresenceSnapshot snapshot(Long organizationId, boolean includeMembers) {
+        Set<Long> memberIds = organizationId != null ? organizationMemberCache.getMemberIds(organizationId) : null;
+        return presenceIndex.snapshot(memberIds, organizationId, includeMembers);
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.presence.push-interval-ms:1000}")
+    public void broadcast() {
+        long version = presenceIndex.version();
+        if (version == lastBroadcastVersion || subscriptions.isEmpty()) {
+            return;
+        }
+        lastBroadcastVersion = version;
+        // 같은 조건의 구독자가 많아도 스냅샷은 조건별로 한 번만 만든다
+        Map<String, PresenceSnapshot> snapshots = new HashMap<>();
+        for (Subscription subscription : subscriptions) {
+            if (!send(subscription, snapshots)) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    /** 연결이 끊기지 않도록 변경이 없어도 주기적으로 주석 이벤트를 보낸다 */
+    @Scheduled(fixedDelayString = "${attendance.presence.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.emitter().send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    private boolean send(Subscription subscription, Map<String, PresenceSnapshot> snapshots) {
+        try {
+            PresenceSnapshot snapshot = snapshots.computeIfAbsent(
+                    subscription.organizationId() + ":" + subscription.includeMembers(),
+                    key -> snapshot(subscription.organizationId(), subscription.includeMembers()));
+            subscription.emitter().send(SseEmitter.event().name("presence").data(snapshot));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscription.emitter().completeWithError(e);
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("[PresenceBroadcaster] 스냅샷 전송 실패 - organizationId: {}, {}", subscription.organizationId(), e.getMessage());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.hermes.attendanceservice.presence;
+
+import com.hermes.attendanceservice.dto.PresenceSnapshot;
+import com.hermes.attendanceservice.entity.Attendance;
+import com.hermes.attendanceservice.entity.WorkStatus;
+import com.hermes.attendanceservice.repository.AttendanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 오늘의 재실 상태 인메모리 인덱스 (userId → 상태).
+ * 기동 시/주기적으로 DB 에서 다시 만들고, 그 사이에는 출퇴근·상태 기록 때마다 갱신한다.
+ * 날짜가 바뀌면 빈 맵으로 바꿔 두고 DB 재구성은 주기 작업에 맡긴다 (커밋 콜백 스레드에서 DB 를 읽지 않음).
+ * 재구성은 쓰기 잠금, 변경 반영은 읽기 잠금 안에서 해 재구성 중 커밋된 변경이 교체로 사라지지 않게 한다.
+ * 조회는 DB 를 거치지 않는다. 인스턴스마다 따로 가지므로 다른 인스턴스의 변경은 다음 재구성 때 반영된다.
+ */
+@Slf4j
+@Component
+public class PresenceIndex {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final AttendanceRepository attendanceRepository;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Day> day = new AtomicReference<>(new Day(LocalDate.now(ZONE), new ConcurrentHashMap<>()));
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PresenceIndex(AttendanceRepository attendanceRepository) {
+        this.attendanceRepository = attendanceRepository;
+    }
+
+    /** 날짜별 상태 맵 - 날짜가 바뀌면 통째로 교체한다 */
+    private record Day(LocalDate date, ConcurrentHashMap<Long, PresenceState> states) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${attendance.presence.rebuild-cron:0 */10 * * * *}", zone = "Asia/Seoul")
+    public void rebuild() {
+        // 잠금을 기다리던 변경은 교체된 맵에 반영되고, 잠금 전에 반영된 변경은 이미 커밋되어 조회 결과에 들어 있다
+        lock.writeLock().lock();
+        try {
+            LocalDate today = LocalDate.now(ZONE);
+            ConcurrentHashMap<Long, PresenceState> states = new ConcurrentHashMap<>();
+            for (Attendance a : attendanceRepository.findAllByDate(today)) {
+                PresenceState state = PresenceState.of(a.getStatus(), a.getCheckIn(), a.getCheckOut());
+                if (state != null) {
+                    states.put(a.getUserId(), state);
+                }
+            }
+            day.set(new Day(today, states));
+            version.incrementAndGet();
+            log.debug("[PresenceIndex] {} 재구성 - {}명", today, states.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 변경 반영은 모두 트랜잭션 커밋 이후에 - 롤백된 기록이 인덱스에 남지 않도록
+
+    public void checkedIn(Long userId, LocalDate date) {
+        afterCommit(() -> update(date, states ->
+                // 재택/출장/외근으로 기록된 날은 출근해도 그 상태를 유지, 이미 퇴근했으면 그대로
+                states.compute(userId, (id, current) ->
+                        current != null && (current.isAway() || current == PresenceState.LEFT) ? current : PresenceState.IN_OFFICE)));
+    }
+
+    public void checkedOut(Long userId, LocalDate date) {
+        afterCommit(() -> update(date, states -> states.put(userId, PresenceState.LEFT)));
+    }
+
+    /** 상태 기록 반영 - 기록 후의 최종 값으로 판정 */
+    public void statusMarked(Long userId, LocalDate date, WorkStatus status,
+                             LocalDateTime checkIn, LocalDateTime checkOut) {
+        PresenceState state = PresenceState.of(status, checkIn, checkOut);
+        afterCommit(() -> update(date, states -> {
+            if (state != null) {
+                states.put(userId, state);
+            } else {
+                states.remove(userId);
+            }
+        }));
+    }
+
+    /** 일괄 상태 기록 반영 - 출퇴근 시간은 유지되므로 출근/퇴근한 사용자는 근무 형태만 바꾼다 */
+    public void statusMarked(Long userId, LocalDate from, LocalDate to, WorkStatus status) {
+        LocalDate today = LocalDate.now(ZONE);
+        if (today.isBefore(from) || today.isAfter(to)) return;
+        afterCommit(() -> update(today, states -> states.compute(userId, (id, existing) -> {
+            if (existing == PresenceState.LEFT) return existing;
+            if (existing == PresenceState.IN_OFFICE && PresenceState.away(status) == null) return existing;
+            return PresenceState.of(status, null, null);
+        })));
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /** userIds 가 null 이면 전체 */
+    public PresenceSnapshot snapshot(Set<Long> userIds, Long organizationId, boolean includeMembers) {
+        Day current = day.get();
+        long currentVersion = version.get();
+
+        Map<PresenceState, Integer> counts = new EnumMap<>(PresenceState.class);
+        Map<PresenceState, List<Long>> members = includeMembers ? new EnumMap<>(PresenceState.class) : null;
+        for (PresenceState state : PresenceState.values()) {
+            counts.put(state, 0);
+            if (members != null) members.put(state, new ArrayList<>());
+        }
+
+        if (userIds == null) {
+            current.states().forEach((userId, state) -> add(counts, members, userId, state));
+        } else {
+            for (Long userId : userIds) {
+                PresenceState state = current.states().get(userId);
+                if (state != null) add(counts, members, userId, state);
+            }
+        }
+        if (members != null) members.values().forEach(list -> list.sort(null));
+
+        int present = counts.get(PresenceState.IN_OFFICE) + counts.get(PresenceState.REMOTE)
+                + counts.get(PresenceState.BUSINESS_TRIP) + counts.get(PresenceState.OUT_OF_OFFICE);
+        return PresenceSnapshot.builder()
+                .date(current.date())
+                .organizationId(organizationId)
+                .version(currentVersion)
+                .present(present)
+                .counts(counts)
+                .members(members)
+                .build();
+    }
+
+    private static void add(Map<PresenceState, Integer> counts, Map<PresenceState, List<Long>> members,
+                            Long userId, PresenceState state) {
+        counts.merge(state, 1, Integer::sum);
+        if (members != null) members.get(state).add(userId);
+    }
+
+    /** 오늘 날짜의 변경만 반영. 자정이 지났으면 새 날짜의 빈 맵으로 바꾼 뒤 반영한다. */
+    private void update(LocalDate date, Consumer<ConcurrentHashMap<Long, PresenceState>> change) {
+        LocalDate today = LocalDate.now(ZONE);
+        lock.readLock().lock();
+        try {
+            Day current = day.updateAndGet(d -> d.date().equals(today) ? d : new Day(today, new ConcurrentHashMap<>()));
+            if (current.date().equals(date)) {
+                change.accept(current.states());
+                version.incrementAndGet();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
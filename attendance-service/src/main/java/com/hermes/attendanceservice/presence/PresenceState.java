@@ -0,0 +1,44 @@
+package com.hermes.attendanceservice.presence;
+
+import com.hermes.attendanceservice.entity.WorkStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 현재 재실 상태 (오늘 기준)
+ */
+public enum PresenceState {
+  IN_OFFICE,     // 출근 후 사무실 근무 중
+  REMOTE,        // 재택
+  BUSINESS_TRIP, // 출장
+  OUT_OF_OFFICE, // 외근
+  VACATION,      // 연차
+  LEFT,          // 퇴근
+  ABSENT;        // 결근
+
+  /** 출퇴근 기록으로 상태 판정 - 표시할 상태가 아니면 null (미출근 등) */
+  public static PresenceState of(WorkStatus status, LocalDateTime checkIn, LocalDateTime checkOut) {
+    if (checkOut != null) return LEFT;
+    PresenceState away = away(status);
+    if (away != null) return away;
+    if (checkIn != null) return IN_OFFICE;
+    if (status == WorkStatus.VACATION) return VACATION;
+    if (status == WorkStatus.ABSENT) return ABSENT;
+    return null;
+  }
+
+  /** 출근 기록과 상관없이 유지되는 근무 형태 */
+  static PresenceState away(WorkStatus status) {
+    if (status == null) return null;
+    return switch (status) {
+      case REMOTE -> REMOTE;
+      case BUSINESS_TRIP -> BUSINESS_TRIP;
+      case OUT_OF_OFFICE -> OUT_OF_OFFICE;
+      default -> null;
+    };
+  }
+
+  boolean isAway() {
+    return this == REMOTE || this == BUSINESS_TRIP || this == OUT_OF_OFFICE;
+  }
+}
@@ -0,0 +1,76 @@
+package com.hermes.attendanceservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일 마감 처리 SQL - 행을 읽어 오지 않고 DB 안에서 집합 단위로 반영한다.
+ * 모든 문장이 멱등이라 같은 날짜로 다시 실행해도 결과가 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceCloseOutRepository {
+
+    /** 퇴근 누락: 정책 시각(출근보다 이르면 출근 시각)으로 퇴근 처리 */
+    private static final String AUTO_CHECK_OUT_SQL =
+            "UPDATE attendance SET check_out = GREATEST(check_in, :checkOut), is_auto_recorded = true " +
+            "WHERE date = :date AND check_in IS NOT NULL AND check_out IS NULL";
+
+    /** 출근 기록 없이 미출근 상태로 남은 행 → 결근 */
+    private static final String MARK_NOT_CLOCKED_IN_ABSENT_SQL =
+            "UPDATE attendance SET status = 'ABSENT', is_auto_recorded = true " +
+            "WHERE date = :date AND check_in IS NULL AND status = 'NOT_CLOCKIN'";
+
+    /**
+     * 최근 실제 활동(출근 또는 수동 기록)이 있는 사용자 중 그날 행이 없는 사용자 → 결근 행 생성.
+     * 마감 작업이 만든 결근 행은 활동으로 세지 않는다 (퇴사자 등이 결근 행만으로 계속 대상에 남지 않도록).
+     */
+    private static final String INSERT_MISSING_ABSENT_SQL =
+            "INSERT INTO attendance (user_id, date, status, is_auto_recorded) " +
+            "SELECT DISTINCT user_id, CAST(:date AS date), 'ABSENT', true FROM attendance " +
+            "WHERE date >= :rosterFrom AND date < :date " +
+            "AND (check_in IS NOT NULL OR is_auto_recorded = false) " +
+            "ON CONFLICT (user_id, date) DO NOTHING";
+
+    /** 자동 처리된 사용자의 해당 주 요약 무효화 (다음 조회 때 다시 계산) */
+    private static final String INVALIDATE_WEEKLY_SUMMARY_SQL =
+            "DELETE FROM weekly_work_summary WHERE week_start = :weekStart " +
+            "AND user_id IN (SELECT user_id FROM attendance WHERE date = :date AND is_auto_recorded)";
+
+    /** 여러 인스턴스가 같은 날을 동시에 마감하지 않도록 트랜잭션 범위 advisory lock */
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(:key)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public boolean tryLock(long key) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK_SQL, new MapSqlParameterSource("key", key), Boolean.class));
+    }
+
+    public int autoCheckOut(LocalDate date, LocalDateTime checkOut) {
+        return jdbcTemplate.update(AUTO_CHECK_OUT_SQL, new MapSqlParameterSource()
+                .addValue("date", date)
+                .addValue("checkOut", Timestamp.valueOf(checkOut)));
+    }
+
+    public int markNotClockedInAbsent(LocalDate date) {
+        return jdbcTemplate.update(MARK_NOT_CLOCKED_IN_ABSENT_SQL, new MapSqlParameterSource("date", date));
+    }
+
+    public int insertMissingAbsent(LocalDate date, LocalDate rosterFrom) {
+        return jdbcTemplate.update(INSERT_MISSING_ABSENT_SQL, new MapSqlParameterSource()
+                .addValue("date", date)
+                .addValue("rosterFrom", rosterFrom));
+    }
+
+    public int invalidateWeeklySummaries(LocalDate date, LocalDate weekStart) {
+        return jdbcTemplate.update(INVALIDATE_WEEKLY_SUMMARY_SQL, new MapSqlParameterSource()
+                .addValue("date", date)
+                .addValue("weekStart", weekStart));
+    }
+}
@@ -0,0 +1,160 @@
+package com.hermes.attendanceservice.repository;
+
+import com.hermes.attendanceservice.entity.Attendance;
+import com.hermes.attendanceservice.entity.WorkStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 출퇴근 기록 쓰기 전용 저장소.
+ * (user_id, date) 유니크 제약을 이용해 조회 없이 한 번의 SQL 로 출근/퇴근을 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceCommandRepository {
+
+    private static final String RETURNING = " RETURNING id, user_id, date, check_in, check_out, status, is_auto_recorded";
+
+    /** 출근: 행이 없으면 생성, 있으면 아직 출근 전인 경우에만 반영 (이미 출근했으면 결과 없음) */
+    private static final String CHECK_IN_SQL =
+            "INSERT INTO attendance (user_id, date, check_in, status, is_auto_recorded) " +
+            "VALUES (:userId, :date, :checkIn, :status, false) " +
+            "ON CONFLICT (user_id, date) DO UPDATE SET " +
+            "  check_in = EXCLUDED.check_in, " +
+            "  status = CASE WHEN attendance.status IN ('NOT_CLOCKIN', 'REGULAR', 'LATE') " +
+            "                THEN EXCLUDED.status ELSE attendance.status END, " +
+            "  is_auto_recorded = false " +
+            "WHERE attendance.check_in IS NULL" + RETURNING;
+
+    /** 퇴근: 출근 기록이 있고 아직 퇴근 전인 경우에만 반영 */
+    private static final String CHECK_OUT_SQL =
+            "UPDATE attendance SET " +
+            "  check_out = :checkOut, " +
+            "  status = CASE WHEN status IN ('REGULAR', 'LATE') AND :earlyLeave THEN 'EARLY_LEAVE' ELSE status END " +
+            "WHERE user_id = :userId AND date = :date AND check_out IS NULL" + RETURNING;
+
+    /** 상태 일괄 기록: 기간의 날짜마다 행을 만들거나 상태만 덮어쓴다 (출퇴근 시간은 유지) */
+    private static final String MARK_STATUS_RANGE_SQL =
+            "INSERT INTO attendance (user_id, date, status, is_auto_recorded) " +
+            "SELECT :userId, d::date, :status, :autoRecorded " +
+            "FROM generate_series(CAST(:from AS date), CAST(:to AS date), INTERVAL '1 day') AS d " +
+            "ON CONFLICT (user_id, date) DO UPDATE SET " +
+            "  status = EXCLUDED.status, " +
+            "  is_auto_recorded = EXCLUDED.is_auto_recorded";
+
+    private static final String CHECK_IN_BATCH_SQL = CHECK_IN_SQL.substring(0, CHECK_IN_SQL.indexOf(RETURNING));
+    private static final String CHECK_OUT_BATCH_SQL = CHECK_OUT_SQL.substring(0, CHECK_OUT_SQL.indexOf(RETURNING));
+
+    public static final RowMapper<Attendance> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp checkIn = rs.getTimestamp("check_in");
+        Timestamp checkOut = rs.getTimestamp("check_out");
+        return Attendance.builder()
+                .id(rs.getLong("id"))
+                .userId(rs.getLong("user_id"))
+                .date(rs.getObject("date", LocalDate.class))
+                .checkIn(checkIn != null ? checkIn.toLocalDateTime() : null)
+                .checkOut(checkOut != null ? checkOut.toLocalDateTime() : null)
+                .status(WorkStatus.valueOf(rs.getString("status")))
+                .isAutoRecorded(rs.getBoolean("is_auto_recorded"))
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 이미 출근 처리된 경우 empty */
+    public Optional<Attendance> upsertCheckIn(Long userId, LocalDate date, LocalDateTime checkIn, WorkStatus status) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("date", date)
+                .addValue("checkIn", Timestamp.valueOf(checkIn))
+                .addValue("status", status.name());
+        return first(jdbcTemplate.query(CHECK_IN_SQL, params, ROW_MAPPER));
+    }
+
+    /** 출근 기록이 없거나 이미 퇴근 처리된 경우 empty */
+    public Optional<Attendance> updateCheckOut(Long userId, LocalDate date, LocalDateTime checkOut, boolean earlyLeave) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("date", date)
+                .addValue("checkOut", Timestamp.valueOf(checkOut))
+                .addValue("earlyLeave", earlyLeave);
+        return first(jdbcTemplate.query(CHECK_OUT_SQL, params, ROW_MAPPER));
+    }
+
+    /** 출근 일괄 반영 (큐 적재 모드) - 같은 (user_id, date) 가 반복되어도 첫 출근만 남는다 */
+    public void batchCheckIn(List<CheckInCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = commands.stream()
+                .map(c -> new MapSqlParameterSource()
+                        .addValue("userId", c.userId())
+                        .addValue("date", c.time().toLocalDate())
+                        .addValue("checkIn", Timestamp.valueOf(c.time()))
+                        .addValue("status", c.status().name()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(CHECK_IN_BATCH_SQL, batch);
+    }
+
+    /** 퇴근 일괄 반영 (큐 적재 모드) - 이미 퇴근 처리된 행은 건너뛴다. 반영된 행 수 반환 */
+    public int batchCheckOut(List<CheckOutCommand> commands) {
+        if (commands.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] batch = commands.stream()
+                .map(c -> new MapSqlParameterSource()
+                        .addValue("userId", c.userId())
+                        .addValue("date", c.time().toLocalDate())
+                        .addValue("checkOut", Timestamp.valueOf(c.time()))
+                        .addValue("earlyLeave", c.earlyLeave()))
+                .toArray(SqlParameterSource[]::new);
+        int applied = 0;
+        for (int count : jdbcTemplate.batchUpdate(CHECK_OUT_BATCH_SQL, batch)) {
+            applied += Math.max(count, 0);
+        }
+        return applied;
+    }
+
+    /** 상태 일괄 기록 - 항목마다 기간을 DB 에서 날짜로 펼쳐 한 배치로 보낸다. 반영된 행 수 반환 */
+    public long batchMarkStatus(List<StatusCommand> commands, boolean autoRecorded) {
+        if (commands.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] batch = commands.stream()
+                .map(c -> new MapSqlParameterSource()
+                        .addValue("userId", c.userId())
+                        .addValue("from", c.from())
+                        .addValue("to", c.to())
+                        .addValue("status", c.status().name())
+                        .addValue("autoRecorded", autoRecorded))
+                .toArray(SqlParameterSource[]::new);
+        long applied = 0;
+        for (int count : jdbcTemplate.batchUpdate(MARK_STATUS_RANGE_SQL, batch)) {
+            applied += Math.max(count, 0);
+        }
+        return applied;
+    }
+
+    public record CheckInCommand(Long userId, LocalDateTime time, WorkStatus status) {
+    }
+
+    public record CheckOutCommand(Long userId, LocalDateTime time, boolean earlyLeave) {
+    }
+
+    public record StatusCommand(Long userId, LocalDate from, LocalDate to, WorkStatus status) {
+    }
+
+    private static Optional<Attendance> first(List<Attendance> rows) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+}
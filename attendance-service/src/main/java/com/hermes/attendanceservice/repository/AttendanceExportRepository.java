@@ -0,0 +1,59 @@
+package com.hermes.attendanceservice.repository;
+
+import com.hermes.attendanceservice.export.AttendanceExportRow;
+import com.hermes.attendanceservice.service.WorkSchedule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * 근태 내보내기용 조회.
+ * 엔티티로 만들지 않고 fetch size 단위 전진 전용 커서로 읽어 한 행씩 넘긴다.
+ */
+@Repository
+public class AttendanceExportRepository {
+
+    private static final String EXPORT_SQL =
+            "SELECT user_id, date, status, check_in, check_out, " +
+            "       CASE WHEN check_in IS NOT NULL AND check_out IS NOT NULL " +
+            "            THEN GREATEST(FLOOR(EXTRACT(EPOCH FROM (check_out - check_in)) / 60), 0) ELSE 0 END AS minutes " +
+            "FROM attendance " +
+            "WHERE date BETWEEN :from AND :to " +
+            "ORDER BY user_id, date";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AttendanceExportRepository(DataSource dataSource,
+                                      @Value("${attendance.export.fetch-size:1000}") int fetchSize) {
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    /** PostgreSQL 은 트랜잭션(autocommit off) 안에서만 커서로 끊어 읽으므로 호출 측에서 트랜잭션을 열어야 한다 */
+    public void stream(LocalDate from, LocalDate to, Consumer<AttendanceExportRow> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        jdbcTemplate.query(EXPORT_SQL, params, rs -> {
+            Timestamp checkIn = rs.getTimestamp("check_in");
+            Timestamp checkOut = rs.getTimestamp("check_out");
+            long minutes = rs.getLong("minutes");
+            consumer.accept(new AttendanceExportRow(
+                    rs.getLong("user_id"),
+                    rs.getObject("date", LocalDate.class),
+                    rs.getString("status"),
+                    checkIn != null ? checkIn.toLocalDateTime() : null,
+                    checkOut != null ? checkOut.toLocalDateTime() : null,
+                    minutes,
+                    Math.max(0, minutes - WorkSchedule.STANDARD_DAILY_MINUTES)));
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.hermes.attendanceservice.repository;
+
+import com.hermes.attendanceservice.service.WorkSchedule;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 여러 사용자의 기간별 근태 집계 조회.
+ * 사용자별 합계와 날짜·상태별 인원 수를 GROUPING SETS 한 번의 집계 쿼리로 계산하고,
+ * 결과는 fetch size 단위로 받아 한 행씩 넘긴다 (전체를 메모리에 올리지 않음).
+ */
+@Repository
+public class AttendanceRollupRepository {
+
+    private static final String ROLLUP_SQL =
+            "WITH a AS (" +
+            "  SELECT user_id, date, status, check_in, " +
+            "         CASE WHEN check_in IS NOT NULL AND check_out IS NOT NULL " +
+            "              THEN GREATEST(FLOOR(EXTRACT(EPOCH FROM (check_out - check_in)) / 60), 0) ELSE 0 END AS minutes " +
+            "  FROM attendance " +
+            "  WHERE user_id IN (:userIds) AND date BETWEEN :from AND :to" +
+            ") " +
+            "SELECT GROUPING(user_id) AS by_date, user_id, date, status, " +
+            "       COUNT(*) AS records, " +
+            "       COUNT(check_in) AS work_days, " +
+            "       COUNT(*) FILTER (WHERE status = 'LATE') AS late_days, " +
+            "       COALESCE(SUM(minutes), 0) AS work_minutes, " +
+            "       COALESCE(SUM(minutes) FILTER (WHERE status = 'LATE'), 0) AS late_minutes, " +
+            "       COALESCE(SUM(GREATEST(minutes - " + WorkSchedule.STANDARD_DAILY_MINUTES + ", 0)), 0) AS daily_overtime_minutes " +
+            "FROM a " +
+            "GROUP BY GROUPING SETS ((user_id), (date, status)) " +
+            "ORDER BY by_date, user_id, date, status";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AttendanceRollupRepository(DataSource dataSource) {
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(500);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    /**
+     * 사용자별 행(by_date = 0)이 user_id 순으로 먼저, 날짜·상태별 행(by_date = 1)이 날짜 순으로 뒤에 온다.
+     * PostgreSQL 은 트랜잭션 안에서만 커서로 끊어 읽으므로 호출 측에서 트랜잭션을 열어야 한다.
+     */
+    public void streamRollup(Collection<Long> userIds, LocalDate from, LocalDate to, RowCallbackHandler handler) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("from", from)
+                .addValue("to", to);
+        jdbcTemplate.query(ROLLUP_SQL, params, handler);
+    }
+}
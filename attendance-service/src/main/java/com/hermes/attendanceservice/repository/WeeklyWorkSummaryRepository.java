@@ -0,0 +1,51 @@
+package com.hermes.attendanceservice.repository;
+
+import com.hermes.attendanceservice.entity.WeeklyWorkSummaryRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface WeeklyWorkSummaryRepository extends JpaRepository<WeeklyWorkSummaryRecord, WeeklyWorkSummaryRecord.Key> {
+
+    /** 동시에 같은 주를 갱신해도 마지막 계산 결과 하나만 남도록 upsert */
+    @Modifying
+    @Query(value = "INSERT INTO weekly_work_summary (user_id, week_start, week_end, total_work_minutes, work_days, " +
+            "regular_work_hours, late_work_hours, overtime_hours, vacation_hours, daily_summaries, updated_at) " +
+            "VALUES (:#{#r.userId}, :#{#r.weekStart}, :#{#r.weekEnd}, :#{#r.totalWorkMinutes}, :#{#r.workDays}, " +
+            ":#{#r.regularWorkHours}, :#{#r.lateWorkHours}, :#{#r.overtimeHours}, :#{#r.vacationHours}, " +
+            ":#{#r.dailySummaries}, :#{#r.updatedAt}) " +
+            "ON CONFLICT (user_id, week_start) DO UPDATE SET " +
+            "week_end = EXCLUDED.week_end, total_work_minutes = EXCLUDED.total_work_minutes, " +
+            "work_days = EXCLUDED.work_days, regular_work_hours = EXCLUDED.regular_work_hours, " +
+            "late_work_hours = EXCLUDED.late_work_hours, overtime_hours = EXCLUDED.overtime_hours, " +
+            "vacation_hours = EXCLUDED.vacation_hours, daily_summaries = EXCLUDED.daily_summaries, " +
+            "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    void upsert(@Param("r") WeeklyWorkSummaryRecord record);
+
+    /** 일괄 반영 경로용 무효화 - 다음 조회 때 다시 계산된다 */
+    @Modifying
+    @Query(value = "DELETE FROM weekly_work_summary WHERE user_id IN (:userIds) AND week_start IN (:weekStarts)",
+            nativeQuery = true)
+    int invalidate(@Param("userIds") Collection<Long> userIds, @Param("weekStarts") Collection<LocalDate> weekStarts);
+
+    /**
+     * 한 (사용자, 주) 무효화 - 잠금과 삭제를 한 문장으로 보낸다.
+     * 상관 없는 EXISTS 는 행을 읽기 전에 한 번만 평가되므로 잠금을 잡은 뒤에 삭제한다.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM weekly_work_summary WHERE user_id = :userId AND week_start = :weekStart " +
+            "AND EXISTS (SELECT pg_advisory_xact_lock(:lockKey))", nativeQuery = true)
+    int invalidateLocked(@Param("lockKey") long lockKey,
+                         @Param("userId") Long userId,
+                         @Param("weekStart") LocalDate weekStart);
+
+    /** 트랜잭션 범위 advisory lock (쉼표로 구분한 키) - 교착을 피하려고 키 오름차순으로 잡는다 */
+    @Query(value = "SELECT count(*) FROM " +
+            "(SELECT DISTINCT k FROM unnest(CAST(string_to_array(:keys, ',') AS bigint[])) AS k ORDER BY k) s, " +
+            "LATERAL pg_advisory_xact_lock(s.k)", nativeQuery = true)
+    long lock(@Param("keys") String keys);
+}
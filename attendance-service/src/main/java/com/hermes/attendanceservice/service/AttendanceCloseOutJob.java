@@ -0,0 +1,147 @@
+package com.hermes.attendanceservice.service;
+
+import com.hermes.attendanceservice.dto.CloseOutResult;
+import com.hermes.attendanceservice.repository.AttendanceCloseOutRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일 마감 작업 - 매일 새벽 전날 기록을 마감한다.
+ * 1) 퇴근 누락은 정책 시각으로 자동 퇴근, 2) 근무일에 출근하지 않은 사용자는 결근 처리.
+ * 결근 대상은 최근 roster-lookback-days 동안 실제 활동 기록이 있는 사용자로 본다 (사용자 목록은 user-service 소관).
+ * 모든 처리는 한 트랜잭션 안의 집합 SQL 몇 개로 끝나며, 행을 JVM 으로 읽어 오지 않는다.
+ */
+@Slf4j
+@Service
+public class AttendanceCloseOutJob {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long LOCK_KEY = 0x4154_5443_4c4fL; // "ATTCLO"
+
+    private final AttendanceCloseOutRepository closeOutRepository;
+    private final WeeklySummaryStore weeklySummaryStore;
+    private final TransactionTemplate transactionTemplate;
+    private final LocalTime autoCheckOutTime;
+    private final Set<DayOfWeek> workDays;
+
+    private final Timer durationTimer;
+    private final Counter autoCheckOutCounter;
+    private final Counter absentCounter;
+    private final Counter failureCounter;
+    private final AtomicLong lastSuccessEpochSeconds = new AtomicLong();
+
+    @Value("${attendance.close-out.roster-lookback-days:30}")
+    private int rosterLookbackDays;
+
+    public AttendanceCloseOutJob(AttendanceCloseOutRepository closeOutRepository,
+                                 WeeklySummaryStore weeklySummaryStore,
+                                 PlatformTransactionManager transactionManager,
+                                 WorkSchedule workSchedule,
+                                 @Value("${attendance.close-out.auto-check-out-time:}") String autoCheckOutTime,
+                                 @Value("${attendance.close-out.work-days:MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY}") List<DayOfWeek> workDays,
+                                 MeterRegistry meterRegistry) {
+        this.closeOutRepository = closeOutRepository;
+        this.weeklySummaryStore = weeklySummaryStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 별도 설정이 없으면 퇴근 기준 시각으로 자동 퇴근
+        this.autoCheckOutTime = autoCheckOutTime.isBlank() ? workSchedule.getEndTime() : LocalTime.parse(autoCheckOutTime.trim());
+        this.workDays = workDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(workDays);
+
+        this.durationTimer = Timer.builder("attendance.closeout.duration")
+                .description("일 마감 처리 소요 시간")
+                .register(meterRegistry);
+        this.autoCheckOutCounter = Counter.builder("attendance.closeout.rows")
+                .description("일 마감으로 자동 처리된 행 수")
+                .tag("action", "auto_check_out")
+                .register(meterRegistry);
+        this.absentCounter = Counter.builder("attendance.closeout.rows")
+                .description("일 마감으로 자동 처리된 행 수")
+                .tag("action", "absent")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("attendance.closeout.failures")
+                .description("일 마감 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("attendance.closeout.last.success", lastSuccessEpochSeconds, AtomicLong::get)
+                .description("마지막 일 마감 성공 시각 (epoch seconds)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${attendance.close-out.cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void closeYesterday() {
+        try {
+            closeOut(LocalDate.now(ZONE).minusDays(1));
+        } catch (RuntimeException e) {
+            log.error("[CloseOut] 일 마감 실패", e);
+        }
+    }
+
+    /** 지정한 날짜 마감 (재실행 가능) - 오늘 이후는 아직 출퇴근 중이라 마감할 수 없다 */
+    public CloseOutResult closeOut(LocalDate date) {
+        if (date == null || !date.isBefore(LocalDate.now(ZONE))) {
+            throw new IllegalArgumentException("마감은 어제 이전 날짜만 가능합니다: " + date);
+        }
+        long startedAt = System.nanoTime();
+        CloseOutResult result;
+        try {
+            result = transactionTemplate.execute(status -> {
+                if (!closeOutRepository.tryLock(LOCK_KEY)) {
+                    return CloseOutResult.builder().date(date).skipped(true).build();
+                }
+
+                int autoCheckedOut = closeOutRepository.autoCheckOut(date, date.atTime(autoCheckOutTime));
+                int markedAbsent = 0;
+                int insertedAbsent = 0;
+                if (workDays.contains(date.getDayOfWeek())) {
+                    markedAbsent = closeOutRepository.markNotClockedInAbsent(date);
+                    insertedAbsent = closeOutRepository.insertMissingAbsent(date, date.minusDays(rosterLookbackDays));
+                }
+                weeklySummaryStore.lockAll();
+                closeOutRepository.invalidateWeeklySummaries(date, WeeklySummaryStore.weekStartOf(date));
+
+                return CloseOutResult.builder()
+                        .date(date)
+                        .autoCheckedOut(autoCheckedOut)
+                        .markedAbsent(markedAbsent)
+                        .insertedAbsent(insertedAbsent)
+                        .build();
+            });
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            throw e;
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        result.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        if (result.isSkipped()) {
+            log.info("[CloseOut] {} 마감 건너뜀 - 다른 인스턴스에서 처리 중", date);
+            return result;
+        }
+
+        durationTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        autoCheckOutCounter.increment(result.getAutoCheckedOut());
+        absentCounter.increment(result.getMarkedAbsent() + result.getInsertedAbsent());
+        lastSuccessEpochSeconds.set(System.currentTimeMillis() / 1000);
+        log.info("[CloseOut] {} 마감 완료 - 자동 퇴근 {}건, 결근 {}건(신규 {}건), {}ms",
+                date, result.getAutoCheckedOut(), result.getMarkedAbsent() + result.getInsertedAbsent(),
+                result.getInsertedAbsent(), result.getElapsedMs());
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package com.hermes.attendanceservice.service;
+
+import com.hermes.attendanceservice.export.AttendanceExportFormat;
+import com.hermes.attendanceservice.export.AttendanceExportSink;
+import com.hermes.attendanceservice.repository.AttendanceExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 급여 정산용 근태 내보내기.
+ * 커서로 읽은 행을 바로 CSV/XLSX 기록기로 넘겨 기간과 인원에 상관없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+public class AttendanceExportService {
+
+    private final AttendanceExportRepository attendanceExportRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${attendance.export.max-days:366}")
+    private int maxDays;
+
+    public AttendanceExportService(AttendanceExportRepository attendanceExportRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.attendanceExportRepository = attendanceExportRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료일이 시작일보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new IllegalArgumentException("내보내기 기간은 최대 " + maxDays + "일입니다.");
+        }
+    }
+
+    public void export(LocalDate from, LocalDate to, AttendanceExportFormat format, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        long[] rows = {0};
+        AttendanceExportSink sink = format.open(out);
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    attendanceExportRepository.stream(from, to, row -> {
+                        try {
+                            sink.write(row);
+                            rows[0]++;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+        } catch (RuntimeException | Error e) {
+            // 실패한 내보내기는 close 로 마무리하지 않는다 - 잘린 파일이 200 으로 나가는 것을 막음
+            log.warn("[AttendanceExport] {} ~ {} {} 내보내기 실패 - {}건까지 기록", from, to, format, rows[0]);
+            abort(sink, e);
+            if (e instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+        sink.close();
+        log.info("[AttendanceExport] {} ~ {} {} 내보내기 완료 - {}건, {}ms",
+                from, to, format, rows[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private static void abort(AttendanceExportSink sink, Throwable cause) {
+        try {
+            sink.abort();
+        } catch (IOException | RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hermes.attendanceservice.service;
+
+import com.hermes.attendanceservice.dto.AttendanceResponse;
+import com.hermes.attendanceservice.ingest.AttendanceEvent;
+import com.hermes.attendanceservice.ingest.GroupCommitAttendanceWriter;
+import com.hermes.attendanceservice.presence.PresenceIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 출퇴근 요청 진입점.
+ * attendance.ingestion.mode=direct(기본) 이면 바로 DB 에 반영하고,
+ * queued 이면 로컬 로그에 기록한 뒤 응답하고 DB 반영은 묶어서 처리한다 (응답은 예상 상태이며 id 는 없음).
+ */
+@Service
+public class AttendanceIngestionService {
+
+    private final AttendanceService attendanceService;
+    private final WorkSchedule workSchedule;
+    private final PresenceIndex presenceIndex;
+    private final GroupCommitAttendanceWriter writer;
+
+    public AttendanceIngestionService(AttendanceService attendanceService,
+                                      WorkSchedule workSchedule,
+                                      PresenceIndex presenceIndex,
+                                      ObjectProvider<GroupCommitAttendanceWriter> writer) {
+        this.attendanceService = attendanceService;
+        this.workSchedule = workSchedule;
+        this.presenceIndex = presenceIndex;
+        this.writer = writer.getIfAvailable();
+    }
+
+    public boolean isQueued() {
+        return writer != null;
+    }
+
+    /** 재실 인덱스는 DB 반영(즉시 모드) 또는 로그 기록(큐 모드)이 끝난 뒤 갱신 */
+    public AttendanceResponse checkIn(Long userId, LocalDateTime checkInTime) {
+        requireUserId(userId);
+        if (writer == null) {
+            AttendanceResponse response = attendanceService.checkIn(userId, checkInTime);
+            presenceIndex.checkedIn(userId, response.getDate());
+            return response;
+        }
+        LocalDateTime effective = effectiveTime(checkInTime);
+        writer.submit(AttendanceEvent.Type.CHECK_IN, userId, effective);
+        presenceIndex.checkedIn(userId, effective.toLocalDate());
+        return AttendanceResponse.builder()
+                .userId(userId)
+                .date(effective.toLocalDate())
+                .checkIn(effective)
+                .status(workSchedule.checkInStatus(effective))
+                .build();
+    }
+
+    public AttendanceResponse checkOut(Long userId, LocalDateTime checkOutTime) {
+        requireUserId(userId);
+        if (writer == null) {
+            AttendanceResponse response = attendanceService.checkOut(userId, checkOutTime);
+            presenceIndex.checkedOut(userId, response.getDate());
+            return response;
+        }
+        LocalDateTime effective = effectiveTime(checkOutTime);
+        writer.submit(AttendanceEvent.Type.CHECK_OUT, userId, effective);
+        presenceIndex.checkedOut(userId, effective.toLocalDate());
+        return AttendanceResponse.builder()
+                .userId(userId)
+                .date(effective.toLocalDate())
+                .checkOut(effective)
+                .build();
+    }
+
+    private static void requireUserId(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+    }
+
+    private static LocalDateTime effectiveTime(LocalDateTime requested) {
+        return requested != null ? requested : LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+    }
+}
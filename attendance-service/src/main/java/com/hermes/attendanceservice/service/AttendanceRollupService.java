@@ -0,0 +1,184 @@
+package com.hermes.attendanceservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.dto.AttendanceRollupRequest;
+import com.hermes.attendanceservice.repository.AttendanceRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 팀/조직 단위 근태 집계.
+ * 대상 사용자를 먼저 확정(검증)한 뒤, 집계 쿼리 결과를 한 행씩 JSON 으로 바로 써 내려간다.
+ */
+@Service
+public class AttendanceRollupService {
+
+    private final AttendanceRollupRepository attendanceRollupRepository;
+    private final UserServiceClient userServiceClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${attendance.rollup.max-users:5000}")
+    private int maxUsers;
+
+    @Value("${attendance.rollup.max-days:366}")
+    private int maxDays;
+
+    public AttendanceRollupService(AttendanceRollupRepository attendanceRollupRepository,
+                                   UserServiceClient userServiceClient,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager) {
+        this.attendanceRollupRepository = attendanceRollupRepository;
+        this.userServiceClient = userServiceClient;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /** 요청 검증 + 부서 구성원 확장. 응답을 쓰기 시작하기 전에 호출해 오류를 일반 응답으로 돌려줄 수 있게 한다. */
+    public List<Long> resolveUserIds(AttendanceRollupRequest request) {
+        if (request.getFrom() == null || request.getTo() == null) {
+            throw new IllegalArgumentException("조회 기간(from, to)은 필수입니다.");
+        }
+        if (request.getTo().isBefore(request.getFrom())) {
+            throw new IllegalArgumentException("종료일이 시작일보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) >= maxDays) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + maxDays + "일입니다.");
+        }
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        if (request.getUserIds() != null) {
+            request.getUserIds().stream().filter(id -> id != null).forEach(userIds::add);
+        }
+        if (request.getDepartmentId() != null) {
+            userIds.addAll(userServiceClient.getOrganizationMemberIds(request.getDepartmentId()));
+        }
+        if (userIds.isEmpty()) {
+            throw new IllegalArgumentException("조회할 사용자(userIds) 또는 부서(departmentId)를 지정해야 합니다.");
+        }
+        if (userIds.size() > maxUsers) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + maxUsers + "명입니다.");
+        }
+        return new ArrayList<>(userIds);
+    }
+
+    /**
+     * { status, message, data: { from, to, userCount, users: [...], daily: [{ date, counts: { STATUS: n } }] } }
+     * 기록이 없는 사용자는 users 에 나오지 않는다.
+     */
+    public void writeRollup(List<Long> userIds, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("status", "SUCCESS");
+            json.writeStringField("message", "근태 집계를 성공적으로 조회했습니다.");
+            json.writeObjectFieldStart("data");
+            json.writeStringField("from", from.toString());
+            json.writeStringField("to", to.toString());
+            json.writeNumberField("userCount", userIds.size());
+
+            RollupWriter writer = new RollupWriter(json);
+            readOnlyTransaction.executeWithoutResult(status ->
+                    attendanceRollupRepository.streamRollup(userIds, from, to, rs -> {
+                        try {
+                            writer.write(rs);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+            writer.finish();
+
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+    }
+
+    /** 정렬된 집계 행을 users 배열 → daily 배열 순으로 기록 */
+    private static final class RollupWriter {
+        private final JsonGenerator json;
+        private boolean usersOpen;
+        private boolean dailyOpen;
+        private LocalDate currentDate;
+
+        RollupWriter(JsonGenerator json) {
+            this.json = json;
+        }
+
+        void write(ResultSet rs) throws SQLException, IOException {
+            if (rs.getInt("by_date") == 0) {
+                if (!usersOpen) {
+                    json.writeArrayFieldStart("users");
+                    usersOpen = true;
+                }
+                writeUser(rs);
+                return;
+            }
+
+            if (!dailyOpen) {
+                closeUsers();
+                json.writeArrayFieldStart("daily");
+                dailyOpen = true;
+            }
+            LocalDate date = rs.getObject("date", LocalDate.class);
+            if (!date.equals(currentDate)) {
+                if (currentDate != null) {
+                    json.writeEndObject();
+                    json.writeEndObject();
+                }
+                json.writeStartObject();
+                json.writeStringField("date", date.toString());
+                json.writeObjectFieldStart("counts");
+                currentDate = date;
+            }
+            json.writeNumberField(rs.getString("status"), rs.getLong("records"));
+        }
+
+        private void writeUser(ResultSet rs) throws SQLException, IOException {
+            long workMinutes = rs.getLong("work_minutes");
+            json.writeStartObject();
+            json.writeNumberField("userId", rs.getLong("user_id"));
+            json.writeNumberField("workDays", rs.getLong("work_days"));
+            json.writeNumberField("lateDays", rs.getLong("late_days"));
+            json.writeNumberField("totalWorkMinutes", workMinutes);
+            json.writeNumberField("totalWorkHours", workMinutes / 60.0);
+            json.writeNumberField("lateWorkHours", rs.getLong("late_minutes") / 60.0);
+            json.writeNumberField("dailyOvertimeHours", rs.getLong("daily_overtime_minutes") / 60.0);
+            json.writeEndObject();
+        }
+
+        private void closeUsers() throws IOException {
+            if (!usersOpen) {
+                json.writeArrayFieldStart("users");
+            }
+            json.writeEndArray();
+            usersOpen = false;
+        }
+
+        void finish() throws IOException {
+            if (!dailyOpen) {
+                closeUsers();
+                json.writeArrayFieldStart("daily");
+            } else if (currentDate != null) {
+                json.writeEndObject();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.hermes.attendanceservice.service;
+
+import com.hermes.attendanceservice.dto.BulkStatusRequest;
+import com.hermes.attendanceservice.dto.BulkStatusResult;
+import com.hermes.attendanceservice.presence.PresenceIndex;
+import com.hermes.attendanceservice.repository.AttendanceCommandRepository;
+import com.hermes.attendanceservice.repository.AttendanceCommandRepository.StatusCommand;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 휴일/연차/출장 등 상태 일괄 기록.
+ * 항목을 (사용자, 날짜) 수 기준으로 나눠 묶음마다 한 트랜잭션에서 JDBC 배치 upsert 로 반영한다.
+ * 앞 묶음이 커밋된 뒤 뒤 묶음이 실패하면 앞 묶음은 그대로 남는다 (같은 요청을 다시 보내도 결과는 같다).
+ */
+@Slf4j
+@Service
+public class BulkStatusService {
+
+    private final AttendanceCommandRepository attendanceCommandRepository;
+    private final WeeklySummaryStore weeklySummaryStore;
+    private final PresenceIndex presenceIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${attendance.bulk-status.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${attendance.bulk-status.max-days:366}")
+    private int maxDays;
+
+    @Value("${attendance.bulk-status.chunk-size:5000}")
+    private int chunkSize;
+
+    public BulkStatusService(AttendanceCommandRepository attendanceCommandRepository,
+                             WeeklySummaryStore weeklySummaryStore,
+                             PresenceIndex presenceIndex,
+                             PlatformTransactionManager transactionManager) {
+        this.attendanceCommandRepository = attendanceCommandRepository;
+        this.weeklySummaryStore = weeklySummaryStore;
+        this.presenceIndex = presenceIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BulkStatusResult markStatuses(BulkStatusRequest request) {
+        List<StatusCommand> commands = toCommands(request);
+        long startedAt = System.nanoTime();
+
+        long requestedDays = 0;
+        long affectedRows = 0;
+        int chunks = 0;
+
+        List<StatusCommand> chunk = new ArrayList<>();
+        long chunkDays = 0;
+        for (StatusCommand command : commands) {
+            long days = ChronoUnit.DAYS.between(command.from(), command.to()) + 1;
+            if (!chunk.isEmpty() && chunkDays + days > chunkSize) {
+                affectedRows += applyChunk(chunk, request.isAutoRecorded());
+                chunks++;
+                chunk = new ArrayList<>();
+                chunkDays = 0;
+            }
+            chunk.add(command);
+            chunkDays += days;
+            requestedDays += days;
+        }
+        if (!chunk.isEmpty()) {
+            affectedRows += applyChunk(chunk, request.isAutoRecorded());
+            chunks++;
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("[BulkStatus] {}건 ({}일) 반영 - {}행, {}묶음, {}ms", commands.size(), requestedDays, affectedRows, chunks, elapsedMs);
+        return BulkStatusResult.builder()
+                .entries(commands.size())
+                .requestedDays(requestedDays)
+                .affectedRows(affectedRows)
+                .chunks(chunks)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    private long applyChunk(List<StatusCommand> chunk, boolean autoRecorded) {
+        Set<Long> userIds = new HashSet<>();
+        Set<LocalDate> weeks = new HashSet<>();
+        for (StatusCommand command : chunk) {
+            userIds.add(command.userId());
+            for (LocalDate week = WeeklySummaryStore.weekStartOf(command.from()); !week.isAfter(command.to()); week = week.plusWeeks(1)) {
+                weeks.add(week);
+            }
+        }
+
+        return transactionTemplate.execute(status -> {
+            long applied = attendanceCommandRepository.batchMarkStatus(chunk, autoRecorded);
+            weeklySummaryStore.invalidate(userIds, weeks);
+            chunk.forEach(c -> presenceIndex.statusMarked(c.userId(), c.from(), c.to(), c.status()));
+            return applied;
+        });
+    }
+
+    private List<StatusCommand> toCommands(BulkStatusRequest request) {
+        if (request.getEntries() == null || request.getEntries().isEmpty()) {
+            throw new IllegalArgumentException("기록할 항목(entries)이 없습니다.");
+        }
+        if (request.getEntries().size() > maxEntries) {
+            throw new IllegalArgumentException("한 번에 기록할 수 있는 항목은 최대 " + maxEntries + "건입니다.");
+        }
+
+        List<StatusCommand> commands = new ArrayList<>(request.getEntries().size());
+        for (int i = 0; i < request.getEntries().size(); i++) {
+            BulkStatusRequest.Entry entry = request.getEntries().get(i);
+            if (entry.getUserId() == null || entry.getFrom() == null || entry.getStatus() == null) {
+                throw new IllegalArgumentException((i + 1) + "번째 항목: userId, from, status 는 필수입니다.");
+            }
+            LocalDate to = entry.getTo() != null ? entry.getTo() : entry.getFrom();
+            if (to.isBefore(entry.getFrom())) {
+                throw new IllegalArgumentException((i + 1) + "번째 항목: 종료일이 시작일보다 빠를 수 없습니다.");
+            }
+            if (ChronoUnit.DAYS.between(entry.getFrom(), to) >= maxDays) {
+                throw new IllegalArgumentException((i + 1) + "번째 항목: 기간은 최대 " + maxDays + "일입니다.");
+            }
+            commands.add(new StatusCommand(entry.getUserId(), entry.getFrom(), to, entry.getStatus()));
+        }
+        return commands;
+    }
+}
@@ -0,0 +1,96 @@
+package com.hermes.attendanceservice.service;
+
+import com.hermes.attendanceservice.dto.DailyWorkSummary;
+import com.hermes.attendanceservice.dto.WeeklyWorkSummary;
+import com.hermes.attendanceservice.entity.Attendance;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 출퇴근 기록으로 주간 근무 요약을 계산한다 (조회 없이 순수 계산만).
+ * 기록을 한 번만 훑어 요일별 7칸 배열에 모은 뒤 일별 요약을 만든다.
+ */
+@Component
+public class WeeklySummaryCalculator {
+
+    private static final int DAYS_IN_WEEK = 7;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final String NO_RECORD = "NO_RECORD";
+
+    /** weekStart 는 일요일, records 는 해당 주(일~토)의 출퇴근 기록 */
+    public WeeklyWorkSummary calculate(Long userId, LocalDate weekStart, List<Attendance> records) {
+        Attendance[] dayRecords = new Attendance[DAYS_IN_WEEK];
+        long[] dayMinutes = new long[DAYS_IN_WEEK];
+
+        long totalMinutes = 0L;
+        long regularMinutes = 0L;
+        long lateMinutes = 0L;
+        long vacationMinutes = 0L;
+        int workDays = 0;
+
+        for (Attendance a : records) {
+            if (a.getCheckIn() != null) workDays++;
+
+            int day = (int) ChronoUnit.DAYS.between(weekStart, a.getDate());
+            boolean inWeek = day >= 0 && day < DAYS_IN_WEEK;
+            if (inWeek && dayRecords[day] == null) dayRecords[day] = a;
+
+            if (a.getCheckIn() == null || a.getCheckOut() == null) continue;
+
+            long minutes = Math.max(0L, ChronoUnit.MINUTES.between(a.getCheckIn(), a.getCheckOut()));
+            if (inWeek) dayMinutes[day] += minutes;
+            totalMinutes += minutes;
+
+            // 상태별 시간 계산 (기타 상태는 정상 근무에 포함)
+            switch (a.getStatus()) {
+                case LATE -> lateMinutes += minutes;
+                case VACATION -> vacationMinutes += minutes;
+                default -> regularMinutes += minutes;
+            }
+        }
+
+        // 초과근무 계산 (주 40시간 기준)
+        double totalWorkHours = totalMinutes / 60.0;
+
+        return WeeklyWorkSummary.builder()
+                .userId(userId)
+                .weekStart(weekStart)
+                .weekEnd(weekStart.plusDays(DAYS_IN_WEEK - 1))
+                .totalWorkMinutes(totalMinutes)
+                .totalWorkHours(totalWorkHours)
+                .workDays(workDays)
+                .regularWorkHours(regularMinutes / 60.0)
+                .lateWorkHours(lateMinutes / 60.0)
+                .overtimeHours(Math.max(0, totalWorkHours - 40.0))
+                .vacationHours(vacationMinutes / 60.0)
+                .dailySummaries(createDailySummaries(weekStart, dayRecords, dayMinutes))
+                .build();
+    }
+
+    private List<DailyWorkSummary> createDailySummaries(LocalDate weekStart, Attendance[] dayRecords, long[] dayMinutes) {
+        List<DailyWorkSummary> summaries = new ArrayList<>(DAYS_IN_WEEK);
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            Attendance record = dayRecords[day];
+            long minutes = dayMinutes[day];
+            summaries.add(DailyWorkSummary.builder()
+                    .date(weekStart.plusDays(day))
+                    .status(record != null ? record.getStatus().name() : NO_RECORD)
+                    .workMinutes((double) minutes)
+                    .workHours(minutes / 60.0)
+                    .checkInTime(record != null && record.getCheckIn() != null ? TIME_FORMAT.format(record.getCheckIn()) : null)
+                    .checkOutTime(record != null && record.getCheckOut() != null ? TIME_FORMAT.format(record.getCheckOut()) : null)
+                    .workDuration(human(minutes))
+                    .build());
+        }
+        return summaries;
+    }
+
+    private static String human(long minutes) {
+        return (minutes / 60) + "시간 " + (minutes % 60) + "분";
+    }
+}
@@ -0,0 +1,154 @@
+package com.hermes.attendanceservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.attendanceservice.dto.DailyWorkSummary;
+import com.hermes.attendanceservice.dto.WeeklyWorkSummary;
+import com.hermes.attendanceservice.entity.Attendance;
+import com.hermes.attendanceservice.entity.WeeklyWorkSummaryRecord;
+import com.hermes.attendanceservice.repository.AttendanceRepository;
+import com.hermes.attendanceservice.repository.WeeklyWorkSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+
+/**
+ * 주간 근무 요약 저장소.
+ * 조회는 weekly_work_summary 기본키 조회 한 번으로 끝내고, 행이 없을 때만 출퇴근 기록에서 계산해 채운다.
+ * 퇴근/상태 변경은 기록 변경과 같은 트랜잭션에서 다시 계산하고, 출근과 일괄 반영 경로는 행을 지워 다음 조회 때 계산되게 한다.
+ * 계산과 무효화는 (사용자, 주) 별 advisory lock 으로 직렬화해, 무효화 직전의 기록으로 계산한 요약이 무효화 뒤에 저장되지 않게 한다.
+ * 잠금은 lock-stripes 개로 나눠 두어 일괄 무효화 때 잡는 잠금 수가 사용자 수에 비례해 늘지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class WeeklySummaryStore {
+
+    private static final TypeReference<List<DailyWorkSummary>> DAILY_TYPE = new TypeReference<>() {};
+    private static final long LOCK_NAMESPACE = 0x4154_5457_0000L; // "ATTW" + 잠금 번호
+
+    private final AttendanceRepository attendanceRepository;
+    private final WeeklyWorkSummaryRepository weeklyWorkSummaryRepository;
+    private final WeeklySummaryCalculator weeklySummaryCalculator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${attendance.weekly-summary.lock-stripes:64}")
+    private int lockStripes;
+
+    /** date 가 속한 주(일~토) 요약 - 일요일이 아니어도 자동 보정 */
+    public WeeklyWorkSummary get(Long userId, LocalDate date) {
+        LocalDate weekStart = weekStartOf(date);
+        return weeklyWorkSummaryRepository.findById(new WeeklyWorkSummaryRecord.Key(userId, weekStart))
+                .map(this::toSummary)
+                .orElseGet(() -> refresh(userId, weekStart));
+    }
+
+    /** date 가 속한 주를 다시 계산해 저장 */
+    public WeeklyWorkSummary refresh(Long userId, LocalDate date) {
+        LocalDate weekStart = weekStartOf(date);
+        LocalDate weekEnd = weekStart.with(TemporalAdjusters.nextOrSame(SATURDAY));
+        // 잠금 뒤에 읽어야 진행 중인 무효화 트랜잭션의 커밋 결과를 본다
+        lock(List.of(lockKey(userId, weekStart)));
+
+        List<Attendance> records = attendanceRepository.findAllByUserIdAndDateBetween(userId, weekStart, weekEnd);
+        WeeklyWorkSummary summary = weeklySummaryCalculator.calculate(userId, weekStart, records);
+        weeklyWorkSummaryRepository.upsert(toRecord(summary));
+        return summary;
+    }
+
+    /** 출근용 - 주 전체를 다시 읽지 않고 요약 행만 지운다 (잠금과 삭제를 한 번에 보냄) */
+    public void invalidate(Long userId, LocalDate date) {
+        LocalDate weekStart = weekStartOf(date);
+        weeklyWorkSummaryRepository.invalidateLocked(lockKey(userId, weekStart), userId, weekStart);
+    }
+
+    /** 일괄 반영 경로용 - 해당 사용자/주의 요약을 지워 다음 조회 때 다시 계산되게 한다 */
+    public void invalidate(Collection<Long> userIds, Collection<LocalDate> dates) {
+        if (userIds.isEmpty() || dates.isEmpty()) {
+            return;
+        }
+        List<LocalDate> weekStarts = dates.stream().map(WeeklySummaryStore::weekStartOf).distinct().toList();
+        Set<Long> keys = new HashSet<>();
+        for (Long userId : userIds) {
+            for (LocalDate weekStart : weekStarts) {
+                keys.add(lockKey(userId, weekStart));
+            }
+        }
+        lock(keys);
+        weeklyWorkSummaryRepository.invalidate(userIds, weekStarts);
+    }
+
+    /** 대상 사용자를 미리 알 수 없는 무효화(일 마감 등) 전에 호출 - 모든 (사용자, 주) 잠금을 잡는다 */
+    public void lockAll() {
+        lock(LongStream.range(0, lockStripes).map(stripe -> LOCK_NAMESPACE | stripe).boxed().toList());
+    }
+
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(SUNDAY));
+    }
+
+    private long lockKey(Long userId, LocalDate weekStart) {
+        return LOCK_NAMESPACE | Math.floorMod(Objects.hash(userId, weekStart), lockStripes);
+    }
+
+    private void lock(Collection<Long> keys) {
+        weeklyWorkSummaryRepository.lock(keys.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    private WeeklyWorkSummaryRecord toRecord(WeeklyWorkSummary summary) {
+        try {
+            return WeeklyWorkSummaryRecord.builder()
+                    .userId(summary.getUserId())
+                    .weekStart(summary.getWeekStart())
+                    .weekEnd(summary.getWeekEnd())
+                    .totalWorkMinutes((long) summary.getTotalWorkMinutes())
+                    .workDays(summary.getWorkDays())
+                    .regularWorkHours(summary.getRegularWorkHours())
+                    .lateWorkHours(summary.getLateWorkHours())
+                    .overtimeHours(summary.getOvertimeHours())
+                    .vacationHours(summary.getVacationHours())
+                    .dailySummaries(objectMapper.writeValueAsString(summary.getDailySummaries()))
+                    .updatedAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주간 요약 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private WeeklyWorkSummary toSummary(WeeklyWorkSummaryRecord r) {
+        try {
+            return WeeklyWorkSummary.builder()
+                    .userId(r.getUserId())
+                    .weekStart(r.getWeekStart())
+                    .weekEnd(r.getWeekEnd())
+                    .totalWorkMinutes(r.getTotalWorkMinutes())
+                    .totalWorkHours(r.getTotalWorkMinutes() / 60.0)
+                    .workDays(r.getWorkDays())
+                    .regularWorkHours(r.getRegularWorkHours())
+                    .lateWorkHours(r.getLateWorkHours())
+                    .overtimeHours(r.getOvertimeHours())
+                    .vacationHours(r.getVacationHours())
+                    .dailySummaries(objectMapper.readValue(r.getDailySummaries(), DAILY_TYPE))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주간 요약 역직렬화에 실패했습니다.", e);
+        }
+    }
+}
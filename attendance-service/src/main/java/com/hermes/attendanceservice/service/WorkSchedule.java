@@ -0,0 +1,44 @@
+package com.hermes.attendanceservice.service;
+
+import com.hermes.attendanceservice.entity.WorkStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 출퇴근 기준 시각 (설정값은 기동 시 한 번만 파싱).
+ * 즉시 반영 경로와 큐 적재 경로가 같은 기준으로 상태를 판정하도록 공용으로 사용한다.
+ */
+@Component
+public class WorkSchedule {
+
+    /**
+     * 하루 기준 근무 시간 - 하루에 이를 넘긴 시간을 일 초과근무로 본다 (집계/내보내기).
+     * 주간 요약의 초과근무는 주 40시간 기준이라 값이 다르다 (8시간 미만인 날이 있으면 주간 쪽이 작다).
+     */
+    public static final int STANDARD_DAILY_MINUTES = 8 * 60;
+
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    public WorkSchedule(@Value("${attendance.start-time:09:00}") String startTime,
+                        @Value("${attendance.end-time:18:00}") String endTime) {
+        this.startTime = LocalTime.parse(startTime.trim());
+        this.endTime = LocalTime.parse(endTime.trim());
+    }
+
+    public LocalTime getStartTime() { return startTime; }
+    public LocalTime getEndTime()   { return endTime; }
+
+    /** 출근 시각 기준 상태 (시작 시각 이후면 지각) */
+    public WorkStatus checkInStatus(LocalDateTime checkIn) {
+        return checkIn.toLocalTime().isAfter(startTime) ? WorkStatus.LATE : WorkStatus.REGULAR;
+    }
+
+    /** 종료 시각 이전 퇴근이면 조퇴 */
+    public boolean isEarlyLeave(LocalDateTime checkOut) {
+        return checkOut.toLocalTime().isBefore(endTime);
+    }
+}
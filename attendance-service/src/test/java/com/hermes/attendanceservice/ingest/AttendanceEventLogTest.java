@@ -0,0 +1,103 @@
+package com.hermes.attendanceservice.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttendanceEventLogTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void tornTailIsDroppedOnOpen() throws Exception {
+        try (AttendanceEventLog log = new AttendanceEventLog(dir, Long.MAX_VALUE)) {
+            log.append(AttendanceEvent.Type.CHECK_IN, 1L, NINE, event -> { });
+            log.append(AttendanceEvent.Type.CHECK_IN, 2L, NINE, event -> { });
+        }
+        long completeSize = Files.size(dir.resolve("events.log"));
+        // 기록 도중 종료되어 줄바꿈 없이 남은 이벤트
+        Files.writeString(dir.resolve("events.log"), "I|3|2025-03-", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (AttendanceEventLog log = new AttendanceEventLog(dir, Long.MAX_VALUE)) {
+            assertThat(Files.size(dir.resolve("events.log"))).isEqualTo(completeSize);
+            assertThat(log.readPending()).extracting(AttendanceEvent::userId).containsExactly(1L, 2L);
+
+            AttendanceEvent appended = log.append(AttendanceEvent.Type.CHECK_OUT, 3L, NINE.plusHours(9), event -> { });
+            List<AttendanceEvent> pending = log.readPending();
+            assertThat(pending).extracting(AttendanceEvent::userId).containsExactly(1L, 2L, 3L);
+            assertThat(pending.get(2)).isEqualTo(appended);
+        }
+    }
+
+    @Test
+    void replayStartsAfterCheckpoint() throws Exception {
+        AttendanceEvent second;
+        try (AttendanceEventLog log = new AttendanceEventLog(dir, Long.MAX_VALUE)) {
+            log.append(AttendanceEvent.Type.CHECK_IN, 1L, NINE, event -> { });
+            second = log.append(AttendanceEvent.Type.CHECK_IN, 2L, NINE, event -> { });
+            log.append(AttendanceEvent.Type.CHECK_OUT, 1L, NINE.plusHours(9), event -> { });
+            log.checkpoint(second.endOffset());
+        }
+
+        try (AttendanceEventLog log = new AttendanceEventLog(dir, Long.MAX_VALUE)) {
+            List<AttendanceEvent> pending = log.readPending();
+            assertThat(pending).hasSize(1);
+            assertThat(pending.get(0).type()).isEqualTo(AttendanceEvent.Type.CHECK_OUT);
+            assertThat(pending.get(0).userId()).isEqualTo(1L);
+            assertThat(pending.get(0).time()).isEqualTo(NINE.plusHours(9));
+        }
+    }
+
+    @Test
+    void compactionWaitsUntilEverythingIsApplied() throws Exception {
+        try (AttendanceEventLog log = new AttendanceEventLog(dir, 1)) {
+            AttendanceEvent first = log.append(AttendanceEvent.Type.CHECK_IN, 1L, NINE, event -> { });
+            AttendanceEvent last = log.append(AttendanceEvent.Type.CHECK_IN, 2L, NINE, event -> { });
+
+            assertThat(log.compactIfDrained(first.endOffset())).isFalse();
+            assertThat(Files.size(dir.resolve("events.log"))).isEqualTo(last.endOffset());
+
+            assertThat(log.compactIfDrained(last.endOffset())).isTrue();
+            assertThat(Files.size(dir.resolve("events.log"))).isZero();
+            assertThat(Files.readString(dir.resolve("checkpoint"))).isEqualTo("0");
+            assertThat(log.readPending()).isEmpty();
+
+            // 비운 뒤의 기록은 처음부터 다시 쌓인다
+            AttendanceEvent next = log.append(AttendanceEvent.Type.CHECK_OUT, 1L, NINE.plusHours(9), event -> { });
+            assertThat(next.endOffset()).isEqualTo(Files.size(dir.resolve("events.log")));
+            assertThat(log.readPending()).containsExactly(next);
+        }
+    }
+
+    @Test
+    void compactionSkippedBelowThreshold() throws Exception {
+        try (AttendanceEventLog log = new AttendanceEventLog(dir, Long.MAX_VALUE)) {
+            AttendanceEvent event = log.append(AttendanceEvent.Type.CHECK_IN, 1L, NINE, e -> { });
+
+            assertThat(log.compactIfDrained(event.endOffset())).isFalse();
+            assertThat(Files.size(dir.resolve("events.log"))).isEqualTo(event.endOffset());
+        }
+    }
+
+    @Test
+    void deadLetterKeepsEventAndReason() throws Exception {
+        try (AttendanceEventLog log = new AttendanceEventLog(dir, Long.MAX_VALUE)) {
+            AttendanceEvent event = log.append(AttendanceEvent.Type.CHECK_IN, 1L, NINE, e -> { });
+            log.deadLetter(event, "DataIntegrityViolationException: violates\nconstraint");
+        }
+
+        assertThat(Files.readAllLines(dir.resolve("dead-letter.log")))
+                .containsExactly("I|1|2025-03-03T09:00|DataIntegrityViolationException: violates constraint");
+    }
+}
@@ -0,0 +1,138 @@
+package com.hermes.attendanceservice.ingest;
+
+import com.hermes.attendanceservice.repository.AttendanceCommandRepository;
+import com.hermes.attendanceservice.repository.AttendanceCommandRepository.CheckInCommand;
+import com.hermes.attendanceservice.service.WeeklySummaryStore;
+import com.hermes.attendanceservice.service.WorkSchedule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class GroupCommitAttendanceWriterTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    private AttendanceCommandRepository repository;
+    private GroupCommitAttendanceWriter writer;
+    private boolean stopped;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(AttendanceCommandRepository.class);
+        writer = new GroupCommitAttendanceWriter(repository, new WorkSchedule("09:00", "18:00"),
+                mock(WeeklySummaryStore.class), mock(PlatformTransactionManager.class), mock(ObjectProvider.class));
+        ReflectionTestUtils.setField(writer, "logDir", dir.toString());
+        ReflectionTestUtils.setField(writer, "batchSize", 500);
+        ReflectionTestUtils.setField(writer, "maxWaitMs", 20L);
+        ReflectionTestUtils.setField(writer, "compactThresholdBytes", Long.MAX_VALUE);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (!stopped) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void invalidEventIsDeadLetteredAndCheckpointMovesPastIt() throws Exception {
+        List<Long> applied = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            List<CheckInCommand> commands = invocation.getArgument(0);
+            if (commands.stream().anyMatch(command -> command.userId() == 2L)) {
+                throw new DataIntegrityViolationException("violates check constraint");
+            }
+            commands.forEach(command -> applied.add(command.userId()));
+            return null;
+        }).when(repository).batchCheckIn(anyList());
+
+        writer.start();
+        writer.submit(AttendanceEvent.Type.CHECK_IN, 1L, NINE);
+        writer.submit(AttendanceEvent.Type.CHECK_IN, 2L, NINE);
+        writer.submit(AttendanceEvent.Type.CHECK_IN, 3L, NINE);
+        stop();
+
+        assertThat(applied).containsExactly(1L, 3L);
+        assertThat(Files.readAllLines(dir.resolve("dead-letter.log")))
+                .singleElement().asString().startsWith("I|2|2025-03-03T09:00|DataIntegrityViolationException");
+        assertThat(checkpoint()).isEqualTo(Files.size(dir.resolve("events.log")));
+    }
+
+    @Test
+    void transientFailureIsRetriedWithoutDeadLetter() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new CannotAcquireLockException("lock timeout");
+            }
+            return null;
+        }).when(repository).batchCheckIn(anyList());
+
+        writer.start();
+        writer.submit(AttendanceEvent.Type.CHECK_IN, 1L, NINE);
+        verify(repository, timeout(3000).times(2)).batchCheckIn(anyList());
+        stop();
+
+        assertThat(Files.exists(dir.resolve("dead-letter.log"))).isFalse();
+        assertThat(checkpoint()).isEqualTo(Files.size(dir.resolve("events.log")));
+    }
+
+    @Test
+    void submitRejectsMissingValuesBeforeLogging() throws Exception {
+        writer.start();
+
+        assertThatThrownBy(() -> writer.submit(AttendanceEvent.Type.CHECK_IN, null, NINE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> writer.submit(AttendanceEvent.Type.CHECK_OUT, 1L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(Files.size(dir.resolve("events.log"))).isZero();
+    }
+
+    @Test
+    void onlyDataErrorsAreNonTransient() {
+        assertThat(GroupCommitAttendanceWriter.isNonTransient(new DataIntegrityViolationException("x"))).isTrue();
+        assertThat(GroupCommitAttendanceWriter.isNonTransient(new DuplicateKeyException("x"))).isTrue();
+        assertThat(GroupCommitAttendanceWriter.isNonTransient(new IllegalArgumentException("x"))).isTrue();
+
+        assertThat(GroupCommitAttendanceWriter.isNonTransient(new CannotAcquireLockException("x"))).isFalse();
+        assertThat(GroupCommitAttendanceWriter.isNonTransient(new DataAccessResourceFailureException("x"))).isFalse();
+        assertThat(GroupCommitAttendanceWriter.isNonTransient(new CannotCreateTransactionException("x"))).isFalse();
+    }
+
+    private void stop() throws Exception {
+        writer.stop();
+        stopped = true;
+    }
+
+    private long checkpoint() throws Exception {
+        return Long.parseLong(Files.readString(dir.resolve("checkpoint")).trim());
+    }
+}
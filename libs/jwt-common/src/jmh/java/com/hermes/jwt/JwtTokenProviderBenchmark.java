@@ -0,0 +1,81 @@
+package com.hermes.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 처리량 측정
+ * jjwtBuilder* 는 기존 방식(호출마다 빌더/Date 생성)의 기준값이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final byte[] KEY_BYTES = "hermes-benchmark-secret-key-0123456789abcdef".getBytes();
+
+    private JwtTokenProvider provider;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(KEY_BYTES));
+        properties.setExpirationTime(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshExpiration(TimeUnit.DAYS.toMillis(14));
+
+        provider = new JwtTokenProvider(properties);
+        secretKey = Keys.hmacShaKeyFor(KEY_BYTES);
+        accessToken = provider.createToken("user@hermes.com", 42L, "USER");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return provider.createToken("user@hermes.com", 42L, "USER");
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return provider.createRefreshToken("user@hermes.com");
+    }
+
+    @Benchmark
+    public JwtPayload parseAccessToken() {
+        return provider.getPayloadFromToken(accessToken);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String createAccessTokenContended() {
+        return provider.createToken("user@hermes.com", 42L, "USER");
+    }
+
+    @Benchmark
+    public String jjwtBuilderAccessToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject("user@hermes.com")
+                .claim("userId", 42L)
+                .claim("role", "USER")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Object jjwtParserPerCall() {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(accessToken)
+                .getPayload();
+    }
+}
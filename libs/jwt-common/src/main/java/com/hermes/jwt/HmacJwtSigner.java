@@ -0,0 +1,68 @@
+package com.hermes.jwt;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * HS256 compact JWS 서명기
+ * 헤더 세그먼트는 항상 같으므로 한 번만 인코딩해 두고, Mac 인스턴스는 스레드별로 재사용한다.
+ */
+final class HmacJwtSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String HEADER_SEGMENT =
+            ENCODER.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ThreadLocal<Mac> mac;
+
+    HmacJwtSigner(byte[] keyBytes) {
+        SecretKeySpec key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA256 서명기를 초기화할 수 없습니다.", e);
+            }
+        });
+    }
+
+    String sign(CharSequence payloadJson) {
+        String payloadSegment = ENCODER.encodeToString(payloadJson.toString().getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder token = new StringBuilder(HEADER_SEGMENT.length() + payloadSegment.length() + 45)
+                .append(HEADER_SEGMENT)
+                .append('.')
+                .append(payloadSegment);
+
+        byte[] signature = mac.get().doFinal(token.toString().getBytes(StandardCharsets.US_ASCII));
+        return token.append('.').append(ENCODER.encodeToString(signature)).toString();
+    }
+
+    static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
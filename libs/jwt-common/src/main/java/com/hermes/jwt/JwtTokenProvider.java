@@ -6,11 +6,19 @@ import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
 
 import javax.crypto.SecretKey;
-import java.util.Date;
-
+import java.util.UUID;
+
+/**
+ * 모든 서비스가 공유하는 JWT 발급/검증 엔진
+ * 클레임 구성: sub(email), userId, role, iat, exp / Refresh Token 은 sub(email), jti, iat, exp
+ * 값이 null 인 클레임은 넣지 않는다 (jjwt 빌더와 같은 동작).
+ * 발급은 미리 인코딩된 헤더와 재사용 서명기로, 검증은 한 번 생성해 둔 parser 로 처리한다.
+ */
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    private final HmacJwtSigner signer;
+
+    private final JwtParser parser;
 
     @Getter
     private final long expirationTime;
@@ -20,35 +28,43 @@ public class JwtTokenProvider {
 
     public JwtTokenProvider(JwtProperties properties) {
         byte[] keyBytes = Decoders.BASE64.decode(properties.getSecret());
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        SecretKey secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.signer = new HmacJwtSigner(keyBytes);
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.expirationTime = properties.getExpirationTime();
         this.refreshExpiration = properties.getRefreshExpiration();
     }
 
     public String createToken(String email, Long userId, String role) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expirationTime);
-
-        return Jwts.builder()
-                .subject(email)
-                .claim("userId", userId)
-                .claim("role", role)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(secretKey, Jwts.SIG.HS256)
-                .compact();
+        long nowMillis = System.currentTimeMillis();
+
+        StringBuilder payload = new StringBuilder(160).append('{');
+        appendSubject(payload, email);
+        if (userId != null) {
+            payload.append("\"userId\":").append(userId.longValue()).append(',');
+        }
+        if (role != null) {
+            payload.append("\"role\":");
+            HmacJwtSigner.appendJsonString(payload, role);
+            payload.append(',');
+        }
+        appendTimes(payload, nowMillis, expirationTime);
+
+        return signer.sign(payload);
     }
 
     public String createRefreshToken(String subject) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + refreshExpiration);
-
-        return Jwts.builder()
-                .subject(subject)
-                .issuedAt(now)
-                .expiration(expiry)
-                .signWith(secretKey, Jwts.SIG.HS256)
-                .compact();
+        long nowMillis = System.currentTimeMillis();
+
+        // jti - 같은 초에 발급된 토큰도 서로 달라야 저장소의 해시 유니크 인덱스를 만족
+        StringBuilder payload = new StringBuilder(128).append('{');
+        appendSubject(payload, subject);
+        payload.append("\"jti\":\"").append(UUID.randomUUID()).append("\",");
+        appendTimes(payload, nowMillis, refreshExpiration);
+
+        return signer.sign(payload);
     }
 
     public boolean isValidToken(String token) {
@@ -87,18 +103,30 @@ public class JwtTokenProvider {
         return value != null ? value.toString() : null;
     }
 
+    private static void appendSubject(StringBuilder payload, String subject) {
+        if (subject != null) {
+            payload.append("\"sub\":");
+            HmacJwtSigner.appendJsonString(payload, subject);
+            payload.append(',');
+        }
+    }
+
+    // 초 단위 iat/exp (RFC 7519 NumericDate) - 앞의 클레임은 모두 ',' 로 끝나 있다
+    private void appendTimes(StringBuilder payload, long nowMillis, long validityMillis) {
+        payload.append("\"iat\":").append(nowMillis / 1000)
+                .append(",\"exp\":").append((nowMillis + validityMillis) / 1000)
+                .append('}');
+    }
+
     private Jws<Claims> parseToken(String token) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-        } catch (SecurityException | MalformedJwtException e) {
-            throw new InvalidJwtException("Invalid JWT Token");
+            return parser.parseSignedClaims(token);
         } catch (ExpiredJwtException e) {
             throw new InvalidJwtException("Expired JWT Token");
         } catch (UnsupportedJwtException e) {
             throw new InvalidJwtException("Unsupported JWT Token");
+        } catch (JwtException e) {
+            throw new InvalidJwtException("Invalid JWT Token");
         } catch (IllegalArgumentException e) {
             throw new InvalidJwtException("JWT Token claims empty");
         }
@@ -0,0 +1,74 @@
+package com.hermes.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final byte[] KEY_BYTES = "hermes-test-secret-key-0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(KEY_BYTES));
+        properties.setExpirationTime(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshExpiration(TimeUnit.DAYS.toMillis(14));
+        provider = new JwtTokenProvider(properties);
+    }
+
+    @Test
+    void escapedAndControlCharactersRoundTrip() {
+        String email = "quote\"back\\slash\nnew\rret\ttab\u0001\u001f한글/@hermes.com";
+        String role = "ROLE \"X\" \\ \u0000";
+
+        String token = provider.createToken(email, 42L, role);
+        JwtPayload payload = provider.getPayloadFromToken(token);
+
+        assertThat(payload.getEmail()).isEqualTo(email);
+        assertThat(payload.getUserId()).isEqualTo("42");
+        assertThat(payload.getRole()).isEqualTo(role);
+    }
+
+    @Test
+    void nullRoleAndUserIdAreOmitted() {
+        String token = provider.createToken("user@hermes.com", null, null);
+        JwtPayload payload = provider.getPayloadFromToken(token);
+
+        assertThat(payload.getEmail()).isEqualTo("user@hermes.com");
+        assertThat(payload.getUserId()).isNull();
+        assertThat(payload.getRole()).isNull();
+        assertThat(provider.getClaimFromToken(token, "exp")).isNotNull();
+    }
+
+    @Test
+    void nullSubjectIsOmitted() {
+        String token = provider.createToken(null, 7L, "USER");
+
+        // 이메일 없이 발급 요청이 와도 NPE 없이 sub 만 빠진 토큰이 나온다
+        assertThat(provider.isValidToken(token)).isTrue();
+        assertThat(provider.getEmailFromToken(token)).isNull();
+        assertThat(provider.getPayloadFromToken(token).getUserId()).isEqualTo("7");
+    }
+
+    @Test
+    void refreshTokenRoundTripsWithUniqueJti() {
+        String subject = "tab\tand\"quote@hermes.com";
+
+        String first = provider.createRefreshToken(subject);
+        String second = provider.createRefreshToken(subject);
+
+        assertThat(provider.getEmailFromToken(first)).isEqualTo(subject);
+        assertThat(provider.getClaimFromToken(first, "jti"))
+                .isNotNull()
+                .isNotEqualTo(provider.getClaimFromToken(second, "jti"));
+        assertThat(provider.isValidToken(provider.createRefreshToken(null))).isTrue();
+    }
+}
@@ -0,0 +1,19 @@
+-- 기존 refresh_tokens 테이블(평문 토큰, userId PK) 일회성 정리
+-- 교체 방식(user_refresh_tokens, 해시 저장) 배포 후 모든 인스턴스가 새 버전인지 확인하고 운영자가 직접 한 번 실행한다.
+-- 되돌릴 수 없으므로 필요하면 먼저 백업한다:  pg_dump -t refresh_tokens <db> > refresh_tokens.sql
+--
+--   psql -v ON_ERROR_STOP=1 -f db/retire-legacy-refresh-tokens.sql <db>
+
+BEGIN;
+
+-- 새 테이블이 없으면 (배포 전) 중단
+DO $$
+BEGIN
+    IF to_regclass('user_refresh_tokens') IS NULL THEN
+        RAISE EXCEPTION 'user_refresh_tokens 테이블이 없습니다 - 교체 방식 배포 후 실행하세요';
+    END IF;
+END $$;
+
+DROP TABLE IF EXISTS refresh_tokens;
+
+COMMIT;
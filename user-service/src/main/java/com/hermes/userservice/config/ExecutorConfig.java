@@ -0,0 +1,85 @@
+package com.hermes.userservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 일괄 토큰 검증 전용 풀 - 큐가 가득 차면 호출 스레드에서 직접 처리하여 자연스럽게 속도를 늦춤
+    @Bean(name = "tokenValidationExecutor")
+    public ThreadPoolTaskExecutor tokenValidationExecutor(
+            @Value("${token.validation.batch.pool-size:4}") int poolSize,
+            @Value("${token.validation.batch.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("token-validate-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // 비밀번호 해시(BCrypt) 전용 풀 - CPU 코어 수만큼만 실행하고 큐가 가득 차면 즉시 거절(503)하여 Tomcat 스레드를 보호
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${password.hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // 대량 등록용 비밀번호 해시 풀 - 로그인용 풀과 분리하여 등록 작업이 로그인을 굶기지 않도록 코어 절반만 사용
+    // 큐가 가득 차면 등록 작업 스레드가 직접 해시하여 자연스럽게 속도를 늦춤
+    @Bean(name = "bulkPasswordHashingExecutor")
+    public ThreadPoolTaskExecutor bulkPasswordHashingExecutor(
+            @Value("${user.import.hashing.pool-size:#{T(java.lang.Math).max(1, T(java.lang.Runtime).getRuntime().availableProcessors() / 2)}}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("bulk-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // 대량 등록 작업 실행 풀 - 동시에 하나씩만 처리하고 대기열이 차면 거절(503)
+    @Bean(name = "userImportExecutor")
+    public ThreadPoolTaskExecutor userImportExecutor(
+            @Value("${user.import.queue-capacity:4}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("user-import-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // 만료 Refresh Token 정리 전용 - chunk 사이 대기가 길어 공용 스케줄러 스레드를 붙잡지 않도록 분리
+    // 이전 실행이 아직 돌고 있으면 새 실행은 거절(건너뜀)
+    @Bean(name = "refreshTokenPurgeExecutor")
+    public ThreadPoolTaskExecutor refreshTokenPurgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("refresh-token-purge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,110 @@
+package com.hermes.userservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// 버전 접두사({bcrypt}, {argon2})가 붙는 위임형 비밀번호 인코더 설정
+// 기동 시 현재 CPU에서 목표 지연시간(password.hashing.target-latency-ms)에 맞도록 비용을 보정한다.
+// 비용이나 알고리즘이 바뀌면 기존 해시는 upgradeEncoding 으로 감지되어 로그인 성공 시 백그라운드에서 재해시된다.
+
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
+    private static final String CALIBRATION_PASSWORD = "hermes-calibration-password";
+    private static final int BCRYPT_MAX_STRENGTH = 16;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+    private static final int ARGON2_MAX_ITERATIONS = 10;
+
+    @Value("${password.hashing.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${password.hashing.target-latency-ms:250}")
+    private long targetLatencyMs;
+
+    @Value("${password.hashing.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    @Value("${password.hashing.argon2.memory-kib:19456}")
+    private int argon2MemoryKib;
+
+    @Value("${password.hashing.argon2.min-iterations:2}")
+    private int argon2MinIterations;
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        String idForEncode = algorithm.toLowerCase(Locale.ROOT);
+        if (!BCRYPT.equals(idForEncode) && !ARGON2.equals(idForEncode)) {
+            throw new IllegalStateException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + algorithm);
+        }
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, BCRYPT.equals(idForEncode) ? calibrateBCrypt() : new BCryptPasswordEncoder(bcryptMinStrength));
+        encoders.put(ARGON2, ARGON2.equals(idForEncode) ? calibrateArgon2() : argon2(argon2MinIterations));
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // 접두사 없이 저장된 기존 BCrypt 해시도 검증 가능하도록 기본 인코더 지정
+        passwordEncoder.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+        return passwordEncoder;
+    }
+
+    // BCrypt는 strength 가 1 오를 때마다 비용이 2배가 되므로, 다음 단계가 목표를 넘기 직전까지 올린다
+    private PasswordEncoder calibrateBCrypt() {
+        int strength = bcryptMinStrength;
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long elapsedMs = measure(encoder);
+
+        while (strength < BCRYPT_MAX_STRENGTH && elapsedMs * 2 <= targetLatencyMs) {
+            strength++;
+            encoder = new BCryptPasswordEncoder(strength);
+            elapsedMs = measure(encoder);
+        }
+
+        log.info(" [PasswordEncoderConfig] BCrypt 비용 보정 완료: strength={}, 측정={}ms, 목표={}ms", strength, elapsedMs, targetLatencyMs);
+        return encoder;
+    }
+
+    // Argon2id는 메모리 비용을 고정하고 반복 횟수로 지연시간을 맞춘다
+    private PasswordEncoder calibrateArgon2() {
+        int iterations = argon2MinIterations;
+        Argon2PasswordEncoder encoder = argon2(iterations);
+        long elapsedMs = measure(encoder);
+
+        while (iterations < ARGON2_MAX_ITERATIONS && elapsedMs * (iterations + 1) / iterations <= targetLatencyMs) {
+            iterations++;
+            encoder = argon2(iterations);
+            elapsedMs = measure(encoder);
+        }
+
+        log.info(" [PasswordEncoderConfig] Argon2id 비용 보정 완료: memory={}KiB, iterations={}, 측정={}ms, 목표={}ms",
+                argon2MemoryKib, iterations, elapsedMs, targetLatencyMs);
+        return encoder;
+    }
+
+    private Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM, argon2MemoryKib, iterations);
+    }
+
+    // 첫 실행은 JIT 워밍업으로 보고 두 번째 실행 시간을 사용
+    private long measure(PasswordEncoder encoder) {
+        encoder.encode(CALIBRATION_PASSWORD);
+        long start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,228 @@
+package com.hermes.userservice.config;
+
+import com.hermes.userservice.dto.UserImportRow;
+import com.hermes.userservice.entity.EmploymentType;
+import com.hermes.userservice.entity.Job;
+import com.hermes.userservice.entity.Position;
+import com.hermes.userservice.entity.Rank;
+import com.hermes.userservice.repository.EmploymentTypeRepository;
+import com.hermes.userservice.repository.JobRepository;
+import com.hermes.userservice.repository.OrganizationClosureRepository;
+import com.hermes.userservice.repository.PositionRepository;
+import com.hermes.userservice.repository.RankRepository;
+import com.hermes.userservice.repository.UserBulkRepository;
+import com.hermes.userservice.repository.UserBulkRepository.NewUser;
+import com.hermes.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+// 부하 테스트용 대량 데이터 생성 (perf 프로필)
+// 같은 seed 면 항상 같은 데이터가 만들어진다. 비밀번호 해시는 한 번만 계산해 모든 사용자에 재사용한다.
+
+@Slf4j
+@Configuration
+@Profile("perf")
+@RequiredArgsConstructor
+public class PerfDataGenerator {
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "지호", "수아",
+            "예준", "지유", "주원", "채원", "은우", "지민", "현우", "윤서", "건우", "다은"};
+    private static final String[] DISTRICTS = {"강남구", "서초구", "송파구", "마포구", "영등포구", "성동구", "용산구", "종로구"};
+
+    private final UserRepository userRepository;
+    private final UserBulkRepository userBulkRepository;
+    private final OrganizationClosureRepository organizationClosureRepository;
+    private final RankRepository rankRepository;
+    private final PositionRepository positionRepository;
+    private final JobRepository jobRepository;
+    private final EmploymentTypeRepository employmentTypeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${perf.seed.users:100000}")
+    private int userCount;
+
+    @Value("${perf.seed.organization-depth:5}")
+    private int organizationDepth;
+
+    @Value("${perf.seed.organization-fanout:4}")
+    private int organizationFanout;
+
+    @Value("${perf.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${perf.seed.password:perf1234}")
+    private String password;
+
+    @Value("${perf.seed.chunk-size:5000}")
+    private int chunkSize;
+
+    @Bean
+    public CommandLineRunner perfDataGeneratorRunner() {
+        return args -> {
+            if (userRepository.count() > 0) {
+                log.info(" [Perf Data] 기존 데이터가 있어 생성 건너뜀");
+                return;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            Random random = new Random(randomSeed);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+            ReferenceIds reference = transactionTemplate.execute(status -> createReferenceData());
+            List<Long> organizationIds = transactionTemplate.execute(status -> createOrganizations());
+            createUsers(transactionTemplate, random, reference, organizationIds);
+
+            log.info(" [Perf Data] 생성 완료 - 조직: {}, 사용자: {}, {}ms (로그인: perf0@hermes.com / {})",
+                    organizationIds.size(), userCount, System.currentTimeMillis() - startedAt, password);
+        };
+    }
+
+    private ReferenceIds createReferenceData() {
+        List<Long> ranks = saveNames(List.of("사원", "주임", "대리", "과장", "차장", "부장", "이사"), (name, order) -> {
+            Rank rank = new Rank();
+            rank.setName(name);
+            rank.setSortOrder(order);
+            return rankRepository.save(rank).getId();
+        });
+        List<Long> positions = saveNames(List.of("팀원", "파트장", "팀장", "본부장"), (name, order) -> {
+            Position position = new Position();
+            position.setName(name);
+            position.setSortOrder(order);
+            return positionRepository.save(position).getId();
+        });
+        List<Long> jobs = saveNames(List.of("개발", "기획", "디자인", "영업", "인사", "재무", "마케팅"), (name, order) -> {
+            Job job = new Job();
+            job.setName(name);
+            job.setSortOrder(order);
+            return jobRepository.save(job).getId();
+        });
+        List<Long> employmentTypes = saveNames(List.of("정규직", "계약직", "인턴"), (name, order) -> {
+            EmploymentType type = new EmploymentType();
+            type.setName(name);
+            type.setSortOrder(order);
+            return employmentTypeRepository.save(type).getId();
+        });
+        return new ReferenceIds(ranks, positions, jobs, employmentTypes);
+    }
+
+    // 루트 1개에서 fanout 씩 depth 단계까지 내려가는 트리 (depth 5, fanout 4 → 1,365개)
+    private List<Long> createOrganizations() {
+        List<Long> all = new ArrayList<>();
+        List<Long> level = insertOrganizations(List.of("본사"), Collections.singletonList(null));
+        all.addAll(level);
+        List<String> levelNames = List.of("본사");
+
+        for (int depth = 1; depth <= organizationDepth; depth++) {
+            List<String> names = new ArrayList<>(level.size() * organizationFanout);
+            List<Long> parents = new ArrayList<>(level.size() * organizationFanout);
+            for (int i = 0; i < level.size(); i++) {
+                for (int child = 1; child <= organizationFanout; child++) {
+                    names.add(levelNames.get(i) + "-" + child);
+                    parents.add(level.get(i));
+                }
+            }
+            level = insertOrganizations(names, parents);
+            levelNames = names;
+            all.addAll(level);
+        }
+
+        organizationClosureRepository.deleteAllRows();
+        organizationClosureRepository.rebuildFromParents();
+        return all;
+    }
+
+    private List<Long> insertOrganizations(List<String> names, List<Long> parentIds) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('organization', 'organization_id')) FROM generate_series(1, ?)",
+                Long.class, names.size());
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            rows.add(new Object[]{ids.get(i), names.get(i), parentIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO organization (organization_id, name, parent_id) VALUES (?, ?, ?)", rows,
+                new int[]{Types.BIGINT, Types.VARCHAR, Types.BIGINT});
+        return ids;
+    }
+
+    private void createUsers(TransactionTemplate transactionTemplate, Random random,
+                             ReferenceIds reference, List<Long> organizationIds) {
+        String passwordHash = passwordEncoder.encode(password);
+        LocalDate firstJoinDate = LocalDate.of(2010, 1, 1);
+
+        for (int offset = 0; offset < userCount; offset += chunkSize) {
+            int size = Math.min(chunkSize, userCount - offset);
+            List<UserImportRow> rows = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rows.add(randomUser(offset + i, random, reference, organizationIds, firstJoinDate));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = userBulkRepository.allocateUserIds(rows.size());
+                List<NewUser> users = new ArrayList<>(rows.size());
+                for (int i = 0; i < rows.size(); i++) {
+                    users.add(new NewUser(ids.get(i), rows.get(i), passwordHash, false));
+                }
+                userBulkRepository.insertUsers(users, 1000);
+                userBulkRepository.insertPrimaryAssignments(users, 1000);
+            });
+            log.info(" [Perf Data] 사용자 생성 중 - {}/{}", offset + size, userCount);
+        }
+    }
+
+    private static UserImportRow randomUser(int index, Random random, ReferenceIds reference,
+                                            List<Long> organizationIds, LocalDate firstJoinDate) {
+        UserImportRow row = new UserImportRow();
+        row.setName(SURNAMES[random.nextInt(SURNAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)]);
+        row.setEmail("perf" + index + "@hermes.com");
+        row.setPhone(String.format("010-%04d-%04d", random.nextInt(10000), random.nextInt(10000)));
+        row.setAddress("서울시 " + DISTRICTS[random.nextInt(DISTRICTS.length)]);
+        row.setJoinDate(firstJoinDate.plusDays(random.nextInt(5000)));
+        row.setIsAdmin(index == 0);
+        row.setRankId(pick(random, reference.ranks()));
+        row.setPositionId(pick(random, reference.positions()));
+        row.setJobId(pick(random, reference.jobs()));
+        row.setEmploymentTypeId(pick(random, reference.employmentTypes()));
+        row.setOrganizationId(pick(random, organizationIds));
+        row.setIsLeader(random.nextInt(20) == 0);
+        return row;
+    }
+
+    private static Long pick(Random random, List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static List<Long> saveNames(List<String> names, NameSaver saver) {
+        List<Long> ids = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            ids.add(saver.save(names.get(i), i + 1));
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface NameSaver {
+        Long save(String name, int sortOrder);
+    }
+
+    private record ReferenceIds(List<Long> ranks, List<Long> positions, List<Long> jobs, List<Long> employmentTypes) {
+    }
+}
@@ -18,6 +18,7 @@ public class SecurityConfig {
     private static final String[] WHITELIST = {
             "/api/auth/login",
             "/api/token/validate",
+            "/api/token/validate/batch",
             "/token/validate",
             "/api/token/generate", 
             "/api/token/refresh",
@@ -41,9 +42,4 @@ public class SecurityConfig {
                 )
                 .build();
     }
-
-    @Bean
-    public org.springframework.security.crypto.password.PasswordEncoder passwordEncoder() {
-        return new org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder();
-    }
 }
\ No newline at end of file
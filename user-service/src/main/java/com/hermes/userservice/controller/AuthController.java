@@ -4,8 +4,10 @@ import com.hermes.userservice.dto.ApiResponse;
 import com.hermes.userservice.dto.LoginRequestDto;
 import com.hermes.userservice.jwt.dto.TokenResponse;
 import com.hermes.userservice.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,10 +23,14 @@ public class AuthController {
 
     private final UserService userService;
 
+    // 요청 앞단의 신뢰하는 프록시 수 (기본: Gateway 1개)
+    @Value("${login.limit.trusted-proxy-count:1}")
+    private int trustedProxyCount;
+
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<TokenResponse>> login(@RequestBody LoginRequestDto loginDto) {
+    public ResponseEntity<ApiResponse<TokenResponse>> login(@RequestBody LoginRequestDto loginDto, HttpServletRequest request) {
         log.info(" [Auth Controller] /login 요청 - email: {}", loginDto.getEmail());
-        TokenResponse tokenResponse = userService.login(loginDto);
+        TokenResponse tokenResponse = userService.login(loginDto, resolveClientIp(request));
         return ResponseEntity.ok(ApiResponse.success("로그인이 성공했습니다.", tokenResponse));
     }
 
@@ -55,4 +61,20 @@ public class AuthController {
         
         return ResponseEntity.ok(ApiResponse.success("로그아웃이 성공적으로 처리되었습니다.", result));
     }
+
+    // X-Forwarded-For 는 클라이언트가 임의로 채울 수 있으므로 앞쪽 값은 믿지 않는다.
+    // 신뢰하는 프록시가 각자 오른쪽에 덧붙인 항목만 유효하므로, 오른쪽에서 trustedProxyCount 번째 주소가 실제 클라이언트다.
+    // 헤더가 없거나 항목 수가 모자라면 (Gateway 를 거치지 않은 요청) 소켓 주소를 사용한다.
+    private String resolveClientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (trustedProxyCount <= 0 || forwardedFor == null || forwardedFor.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        String[] entries = forwardedFor.split(",");
+        if (entries.length < trustedProxyCount) {
+            return request.getRemoteAddr();
+        }
+        String clientIp = entries[entries.length - trustedProxyCount].trim();
+        return clientIp.isEmpty() ? request.getRemoteAddr() : clientIp;
+    }
 }
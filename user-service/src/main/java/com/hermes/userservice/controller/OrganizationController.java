@@ -0,0 +1,67 @@
+package com.hermes.userservice.controller;
+
+import com.hermes.userservice.dto.ApiResponse;
+import com.hermes.userservice.dto.OrganizationMemberDto;
+import com.hermes.userservice.dto.OrganizationRequest;
+import com.hermes.userservice.dto.OrganizationTreeNode;
+import com.hermes.userservice.service.OrganizationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("api/organizations")
+@RequiredArgsConstructor
+public class OrganizationController {
+
+    private final OrganizationService organizationService;
+
+    @GetMapping("/tree")
+    public ResponseEntity<ApiResponse<List<OrganizationTreeNode>>> getTree() {
+        return ResponseEntity.ok(ApiResponse.success("조직도 조회가 완료되었습니다.", organizationService.getTree()));
+    }
+
+    @GetMapping("/{organizationId}/tree")
+    public ResponseEntity<ApiResponse<OrganizationTreeNode>> getSubtree(@PathVariable Long organizationId) {
+        return ResponseEntity.ok(ApiResponse.success("하위 조직도 조회가 완료되었습니다.", organizationService.getSubtree(organizationId)));
+    }
+
+    @GetMapping("/{organizationId}/members")
+    public ResponseEntity<ApiResponse<List<OrganizationMemberDto>>> getMembers(@PathVariable Long organizationId) {
+        return ResponseEntity.ok(ApiResponse.success("조직 구성원 조회가 완료되었습니다.", organizationService.getMembers(organizationId)));
+    }
+
+    // 다른 서비스(근태 집계 등)에서 하위 조직 포함 구성원 ID 만 필요할 때 사용
+    @GetMapping("/{organizationId}/member-ids")
+    public ResponseEntity<ApiResponse<List<Long>>> getMemberIds(@PathVariable Long organizationId) {
+        return ResponseEntity.ok(ApiResponse.success("조직 구성원 ID 조회가 완료되었습니다.", organizationService.getMemberIds(organizationId)));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<OrganizationTreeNode>> createOrganization(@Valid @RequestBody OrganizationRequest request) {
+        log.info(" [Organization Controller] 조직 생성 요청 - name: {}, parentId: {}", request.getName(), request.getParentId());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("조직이 생성되었습니다.", organizationService.createOrganization(request)));
+    }
+
+    @PatchMapping("/{organizationId}/parent")
+    public ResponseEntity<ApiResponse<Void>> moveOrganization(@PathVariable Long organizationId,
+                                                              @RequestParam(required = false) Long parentId) {
+        log.info(" [Organization Controller] 조직 이동 요청 - id: {}, parentId: {}", organizationId, parentId);
+        organizationService.moveOrganization(organizationId, parentId);
+        return ResponseEntity.ok(ApiResponse.success("조직이 이동되었습니다.", null));
+    }
+
+    @DeleteMapping("/{organizationId}")
+    public ResponseEntity<ApiResponse<Void>> deleteOrganization(@PathVariable Long organizationId) {
+        log.info(" [Organization Controller] 조직 삭제 요청 - id: {}", organizationId);
+        organizationService.deleteOrganization(organizationId);
+        return ResponseEntity.ok(ApiResponse.success("조직이 삭제되었습니다.", null));
+    }
+}
@@ -0,0 +1,97 @@
+package com.hermes.userservice.controller;
+
+import com.hermes.userservice.dto.ApiResponse;
+import com.hermes.userservice.dto.ReferenceDataRequest;
+import com.hermes.userservice.dto.ReferenceDataResponse;
+import com.hermes.userservice.dto.ReferenceItem;
+import com.hermes.userservice.dto.ReferenceType;
+import com.hermes.userservice.service.ReferenceDataCache;
+import com.hermes.userservice.service.ReferenceDataService;
+import com.hermes.userservice.service.ReferenceDataSnapshot;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("api/reference-data")
+@RequiredArgsConstructor
+public class ReferenceDataController {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final ReferenceDataService referenceDataService;
+
+    // 전체 참조 데이터 - 다른 서비스는 If-None-Match 로 변경 여부만 확인하고 로컬 사본을 재사용한다
+    @GetMapping
+    public ResponseEntity<ApiResponse<ReferenceDataResponse>> getAll(WebRequest webRequest) {
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            return null;  // 304 Not Modified
+        }
+
+        ReferenceDataResponse response = new ReferenceDataResponse(snapshot.getVersion(), snapshot.getRanks(),
+                snapshot.getPositions(), snapshot.getJobs(), snapshot.getEmploymentTypes());
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("참조 데이터 조회가 완료되었습니다.", response));
+    }
+
+    // 현재 버전만 조회 (폴링용)
+    @GetMapping("/version")
+    public ResponseEntity<ApiResponse<String>> getVersion() {
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .body(ApiResponse.success("참조 데이터 버전 조회가 완료되었습니다.", snapshot.getVersion()));
+    }
+
+    @GetMapping("/{type}")
+    public ResponseEntity<ApiResponse<List<ReferenceItem>>> getByType(@PathVariable String type, WebRequest webRequest) {
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            return null;
+        }
+
+        List<ReferenceItem> items = switch (ReferenceType.fromPath(type)) {
+            case RANK -> snapshot.getRanks();
+            case POSITION -> snapshot.getPositions();
+            case JOB -> snapshot.getJobs();
+            case EMPLOYMENT_TYPE -> snapshot.getEmploymentTypes();
+        };
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("참조 데이터 조회가 완료되었습니다.", items));
+    }
+
+    @PostMapping("/{type}")
+    public ResponseEntity<ApiResponse<ReferenceItem>> create(@PathVariable String type,
+                                                             @Valid @RequestBody ReferenceDataRequest request) {
+        log.info(" [ReferenceData Controller] 생성 요청 - type: {}, name: {}", type, request.getName());
+        ReferenceItem item = referenceDataService.create(ReferenceType.fromPath(type), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("생성되었습니다.", item));
+    }
+
+    @PutMapping("/{type}/{id}")
+    public ResponseEntity<ApiResponse<ReferenceItem>> update(@PathVariable String type, @PathVariable Long id,
+                                                             @Valid @RequestBody ReferenceDataRequest request) {
+        log.info(" [ReferenceData Controller] 수정 요청 - type: {}, id: {}", type, id);
+        ReferenceItem item = referenceDataService.update(ReferenceType.fromPath(type), id, request);
+        return ResponseEntity.ok(ApiResponse.success("수정되었습니다.", item));
+    }
+
+    @DeleteMapping("/{type}/{id}")
+    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable String type, @PathVariable Long id) {
+        log.info(" [ReferenceData Controller] 삭제 요청 - type: {}, id: {}", type, id);
+        referenceDataService.delete(ReferenceType.fromPath(type), id);
+        return ResponseEntity.ok(ApiResponse.success("삭제되었습니다.", null));
+    }
+}
@@ -0,0 +1,88 @@
+package com.hermes.userservice.controller;
+
+import com.hermes.userservice.dto.ApiResponse;
+import com.hermes.userservice.dto.MetaData;
+import com.hermes.userservice.dto.UserDirectoryEntry;
+import com.hermes.userservice.dto.UserDirectoryPage;
+import com.hermes.userservice.dto.UserDirectorySearch;
+import com.hermes.userservice.dto.UserProfileResponse;
+import com.hermes.userservice.service.UserDirectoryService;
+import com.hermes.userservice.service.UserProfileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RestController
+@RequestMapping("api/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserDirectoryService userDirectoryService;
+    private final UserProfileService userProfileService;
+
+    // 직원 디렉터리 - cursor 기반 페이지네이션 (nextCursor 를 다음 요청의 cursor 로 전달)
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<UserDirectoryEntry>>> getDirectory(@ModelAttribute UserDirectorySearch search) {
+        long startedAt = System.nanoTime();
+        UserDirectoryPage page = userDirectoryService.search(search);
+
+        MetaData meta = MetaData.builder()
+                .pageInfo(MetaData.PageInfo.builder()
+                        .size(page.getSize())
+                        .totalElements(page.getTotalElements())
+                        .totalPages(page.getTotalElements() != null
+                                ? (int) ((page.getTotalElements() + page.getSize() - 1) / page.getSize())
+                                : null)
+                        .hasNext(page.isHasNext())
+                        .hasPrevious(search.getCursor() != null && !search.getCursor().isBlank())
+                        .nextCursor(page.getNextCursor())
+                        .build())
+                .sortInfo(MetaData.SortInfo.builder().sortBy("name,id").direction("ASC").build())
+                .filterInfo(filterInfo(search))
+                .processingTimeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+
+        return ResponseEntity.ok(ApiResponse.success("직원 목록 조회가 완료되었습니다.", page.getEntries(), meta));
+    }
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<ApiResponse<UserProfileResponse>> getProfile(@PathVariable Long userId) {
+        return ResponseEntity.ok(ApiResponse.success("사용자 조회가 완료되었습니다.", userProfileService.getProfile(userId)));
+    }
+
+    // 여러 사용자 프로필 일괄 조회 (예: /api/users/profiles?ids=1,2,3)
+    @GetMapping("/profiles")
+    public ResponseEntity<ApiResponse<List<UserProfileResponse>>> getProfiles(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(ApiResponse.success("사용자 조회가 완료되었습니다.", userProfileService.getProfiles(ids)));
+    }
+
+    private static MetaData.FilterInfo filterInfo(UserDirectorySearch search) {
+        List<String> keys = new ArrayList<>(3);
+        List<String> values = new ArrayList<>(3);
+        if (search.getOrganizationId() != null) {
+            keys.add("organizationId");
+            values.add(String.valueOf(search.getOrganizationId()));
+        }
+        if (search.getRankId() != null) {
+            keys.add("rankId");
+            values.add(String.valueOf(search.getRankId()));
+        }
+        if (search.getPositionId() != null) {
+            keys.add("positionId");
+            values.add(String.valueOf(search.getPositionId()));
+        }
+        if (keys.isEmpty()) {
+            return null;
+        }
+        return MetaData.FilterInfo.builder()
+                .filterBy(String.join(",", keys))
+                .filterValue(String.join(",", values))
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.hermes.userservice.controller;
+
+import com.hermes.userservice.dto.ApiResponse;
+import com.hermes.userservice.dto.UserImportStatus;
+import com.hermes.userservice.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@Slf4j
+@RestController
+@RequestMapping("api/users/import")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    // 본문: text/csv (첫 줄 헤더) 또는 application/x-ndjson (한 줄에 사용자 하나)
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson", "application/jsonl"})
+    public ResponseEntity<ApiResponse<UserImportStatus>> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        log.info(" [UserImport Controller] 대량 등록 요청 - contentType: {}, length: {}", contentType, request.getContentLengthLong());
+        UserImportStatus status = userImportService.submit(request.getInputStream(), contentType);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("등록 작업이 접수되었습니다.", status));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<UserImportStatus>> getStatus(@PathVariable String jobId) {
+        return userImportService.getStatus(jobId)
+                .map(status -> ResponseEntity.ok(ApiResponse.success(status)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("등록 작업을 찾을 수 없습니다: " + jobId, "IMPORT_JOB_NOT_FOUND")));
+    }
+}
@@ -0,0 +1,13 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AssignmentDto {
+    private final Long organizationId;
+    private final String organizationName;
+    private final Boolean isPrimary;
+    private final Boolean isLeader;
+}
@@ -26,13 +26,15 @@ public class MetaData {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class PageInfo {
         private int page;
         private int size;
-        private long totalElements;
-        private int totalPages;
+        private Long totalElements;   // keyset 페이지에서는 요청 시에만 계산
+        private Integer totalPages;
         private boolean hasNext;
         private boolean hasPrevious;
+        private String nextCursor;    // keyset 페이지네이션용 다음 페이지 커서
     }
     
     @Data
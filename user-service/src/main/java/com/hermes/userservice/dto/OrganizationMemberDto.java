@@ -0,0 +1,16 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrganizationMemberDto {
+    private final Long userId;
+    private final String name;
+    private final String email;
+    private final Long organizationId;
+    private final String organizationName;
+    private final Boolean isPrimary;
+    private final Boolean isLeader;
+}
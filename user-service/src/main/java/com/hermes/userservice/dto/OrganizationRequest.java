@@ -0,0 +1,19 @@
+package com.hermes.userservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationRequest {
+
+    @NotBlank(message = "조직명은 필수입니다.")
+    @Size(max = 100, message = "조직명은 100자 이하여야 합니다.")
+    private String name;
+
+    private Long parentId;  // null 이면 최상위 조직
+}
@@ -0,0 +1,18 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 조직 트리 응답 노드 (스냅샷 생성 시 한 번 만들어 재사용하는 불변 객체)
+
+@Getter
+@AllArgsConstructor
+public class OrganizationTreeNode {
+    private final Long organizationId;
+    private final String name;
+    private final Long parentId;
+    private final int depth;
+    private final List<OrganizationTreeNode> children;
+}
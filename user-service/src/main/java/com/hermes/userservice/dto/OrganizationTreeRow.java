@@ -0,0 +1,12 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrganizationTreeRow {
+    private final Long organizationId;
+    private final String name;
+    private final Long parentId;
+}
@@ -0,0 +1,19 @@
+package com.hermes.userservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceDataRequest {
+
+    @NotBlank(message = "이름은 필수입니다.")
+    @Size(max = 50, message = "이름은 50자 이하여야 합니다.")
+    private String name;
+
+    private Integer sortOrder;
+}
@@ -0,0 +1,16 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ReferenceDataResponse {
+    private final String version;
+    private final List<ReferenceItem> ranks;
+    private final List<ReferenceItem> positions;
+    private final List<ReferenceItem> jobs;
+    private final List<ReferenceItem> employmentTypes;
+}
@@ -0,0 +1,14 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 직급/직책/직무/고용형태 공통 참조 데이터 (캐시에 보관되는 불변 객체)
+
+@Getter
+@AllArgsConstructor
+public class ReferenceItem {
+    private final Long id;
+    private final String name;
+    private final Integer sortOrder;
+}
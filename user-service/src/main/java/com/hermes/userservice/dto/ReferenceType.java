@@ -0,0 +1,29 @@
+package com.hermes.userservice.dto;
+
+import java.util.Arrays;
+
+// 참조 데이터 종류 - API 경로의 이름과 매핑
+
+public enum ReferenceType {
+    RANK("ranks"),
+    POSITION("positions"),
+    JOB("jobs"),
+    EMPLOYMENT_TYPE("employment-types");
+
+    private final String path;
+
+    ReferenceType(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public static ReferenceType fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(type -> type.path.equals(path))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 참조 데이터 종류입니다: " + path));
+    }
+}
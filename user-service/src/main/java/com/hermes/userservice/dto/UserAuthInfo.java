@@ -0,0 +1,35 @@
+package com.hermes.userservice.dto;
+
+import com.hermes.userservice.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로그인에 필요한 최소 정보만 담은 불변 projection (연관관계/자기소개 등은 로딩하지 않음)
+
+@Getter
+@AllArgsConstructor
+public class UserAuthInfo {
+
+    private final Long id;
+
+    private final String email;
+
+    private final String password;
+
+    private final Boolean isAdmin;
+
+    private final Boolean needsPasswordReset;
+
+    public static UserAuthInfo from(User user) {
+        return new UserAuthInfo(user.getId(), user.getEmail(), user.getPassword(),
+                user.getIsAdmin(), user.getNeedsPasswordReset());
+    }
+
+    public UserAuthInfo withPassword(String password) {
+        return new UserAuthInfo(id, email, password, isAdmin, needsPasswordReset);
+    }
+
+    public String getRole() {
+        return Boolean.TRUE.equals(isAdmin) ? "ADMIN" : "USER";
+    }
+}
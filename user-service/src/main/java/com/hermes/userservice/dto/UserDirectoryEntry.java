@@ -0,0 +1,22 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 직원 디렉터리 목록 한 행 (엔티티 로딩 없이 필요한 컬럼만 조회)
+
+@Getter
+@AllArgsConstructor
+public class UserDirectoryEntry {
+    private final Long userId;
+    private final String name;
+    private final String email;
+    private final String phone;
+    private final String profileImage;
+    private final Long rankId;
+    private final String rankName;
+    private final Long positionId;
+    private final String positionName;
+    private final Long organizationId;     // 메인 부서
+    private final String organizationName;
+}
@@ -0,0 +1,16 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class UserDirectoryPage {
+    private final List<UserDirectoryEntry> entries;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+    private final Long totalElements;  // includeTotal 이 아니면 null
+}
@@ -0,0 +1,15 @@
+package com.hermes.userservice.dto;
+
+import lombok.Data;
+
+// 직원 디렉터리 조회 조건 (모두 선택 사항)
+
+@Data
+public class UserDirectorySearch {
+    private Long organizationId;   // 하위 조직 소속 포함
+    private Long rankId;
+    private Long positionId;
+    private String cursor;         // 이전 응답의 nextCursor
+    private Integer size;
+    private boolean includeTotal;  // true 인 경우에만 전체 건수 계산
+}
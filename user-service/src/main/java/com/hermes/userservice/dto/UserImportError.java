@@ -0,0 +1,12 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserImportError {
+    private final long line;
+    private final String email;
+    private final String message;
+}
@@ -0,0 +1,27 @@
+package com.hermes.userservice.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 대량 등록 입력 한 행 (CSV 헤더명 / JSON 필드명 동일)
+// 관리자 여부는 받지 않는다 - 대량 등록 계정은 모두 일반 사용자로 만들고, 관리자 지정은 개별 수정으로만 한다.
+
+@Data
+@NoArgsConstructor
+public class UserImportRow {
+    private String name;
+    private String email;
+    private String password;
+    private String phone;
+    private String address;
+    private LocalDate joinDate;
+    private Long employmentTypeId;
+    private Long rankId;
+    private Long positionId;
+    private Long jobId;
+    private String role;
+    private Long organizationId;   // 메인 부서 (선택)
+    private Boolean isLeader;
+}
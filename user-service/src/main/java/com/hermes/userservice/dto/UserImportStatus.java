@@ -0,0 +1,23 @@
+package com.hermes.userservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportStatus {
+    private final String jobId;
+    private final String state;        // QUEUED, RUNNING, COMPLETED, FAILED
+    private final long processed;      // 읽은 행 수
+    private final long imported;       // 등록된 행 수
+    private final long failed;         // 실패한 행 수
+    private final List<UserImportError> errors;  // 앞쪽 일부만 보관
+    private final String message;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+}
@@ -0,0 +1,31 @@
+package com.hermes.userservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserProfileResponse {
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final String phone;
+    private final String address;
+    private final LocalDate joinDate;
+    private final Boolean isAdmin;
+    private final String role;
+    private final String profileImage;
+    private final String selfIntroduction;
+    private final LocalDateTime lastLoginAt;
+    private final ReferenceItem employmentType;
+    private final ReferenceItem rank;
+    private final ReferenceItem position;
+    private final ReferenceItem job;
+    private final List<AssignmentDto> assignments;
+}
@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "employee_assignment")
+@Table(name = "employee_assignment", indexes = {
+        @Index(name = "ix_employee_assignment_employee", columnList = "employee_id, is_primary"),
+        @Index(name = "ix_employee_assignment_organization", columnList = "organization_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,11 +19,11 @@ public class EmployeeAssignment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long assignmentId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     private User employee;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organization_id", nullable = false)
     private Organization organization;
 
@@ -0,0 +1,40 @@
+package com.hermes.userservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+// 조직 트리 closure table - 모든 (조상, 자손) 쌍과 깊이를 저장 (자기 자신은 depth 0)
+// "조직 X 하위 전체"를 재귀 없이 ancestor_id 조건 하나로 조회하기 위해 사용
+
+@Entity
+@Table(name = "organization_closure", indexes = {
+        @Index(name = "ix_organization_closure_descendant", columnList = "descendant_id, depth")
+})
+@IdClass(OrganizationClosure.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -9,12 +9,23 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "ix_users_name_id", columnList = "name, id"),  // 디렉터리 keyset 정렬
+        @Index(name = "ix_users_rank_id", columnList = "rank_id"),
+        @Index(name = "ix_users_position_id", columnList = "position_id")
+})
+// 프로필: 소속 부서까지 한 번에 로딩 (직급 등 참조 데이터는 ReferenceDataCache 에서 id 로 조회)
+@NamedEntityGraph(name = User.GRAPH_ASSIGNMENTS,
+        attributeNodes = @NamedAttributeNode(value = "assignments", subgraph = "assignment-organization"),
+        subgraphs = @NamedSubgraph(name = "assignment-organization", attributeNodes = @NamedAttributeNode("organization")))
 @Getter
 @Setter
 @NoArgsConstructor
 public class User {
 
+    public static final String GRAPH_ASSIGNMENTS = "User.assignments";
+
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;   // User ID (PK)
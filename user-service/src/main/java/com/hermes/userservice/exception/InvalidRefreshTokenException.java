@@ -0,0 +1,14 @@
+package com.hermes.userservice.exception;
+
+// 유효하지 않거나 이미 사용(교체)된 Refresh Token 으로 갱신을 시도한 경우 발생하는 예외
+
+public class InvalidRefreshTokenException extends BusinessException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message, "INVALID_REFRESH_TOKEN");
+    }
+
+    public InvalidRefreshTokenException(String message, Throwable cause) {
+        super(message, "INVALID_REFRESH_TOKEN", cause);
+    }
+}
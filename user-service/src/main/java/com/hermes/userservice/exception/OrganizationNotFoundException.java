@@ -0,0 +1,14 @@
+package com.hermes.userservice.exception;
+
+// 조직을 찾을 수 없을 때 발생하는 예외
+
+public class OrganizationNotFoundException extends BusinessException {
+
+    public OrganizationNotFoundException(String message) {
+        super(message, "ORGANIZATION_NOT_FOUND");
+    }
+
+    public OrganizationNotFoundException(String message, Throwable cause) {
+        super(message, "ORGANIZATION_NOT_FOUND", cause);
+    }
+}
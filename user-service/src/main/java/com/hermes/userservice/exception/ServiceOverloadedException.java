@@ -0,0 +1,14 @@
+package com.hermes.userservice.exception;
+
+// 처리 용량을 초과하여 요청을 즉시 거절할 때 발생하는 예외 (503 응답)
+
+public class ServiceOverloadedException extends BusinessException {
+
+    public ServiceOverloadedException(String message) {
+        super(message, "SERVICE_OVERLOADED");
+    }
+
+    public ServiceOverloadedException(String message, Throwable cause) {
+        super(message, "SERVICE_OVERLOADED", cause);
+    }
+}
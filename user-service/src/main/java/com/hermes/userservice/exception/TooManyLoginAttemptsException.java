@@ -0,0 +1,16 @@
+package com.hermes.userservice.exception;
+
+import lombok.Getter;
+
+// 로그인 실패 횟수 제한을 초과했을 때 발생하는 예외 (429 응답)
+
+@Getter
+public class TooManyLoginAttemptsException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(String message, long retryAfterSeconds) {
+        super(message, "TOO_MANY_LOGIN_ATTEMPTS");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -4,21 +4,22 @@ import com.hermes.jwt.JwtTokenProvider;
 import com.hermes.jwt.JwtPayload;
 import com.hermes.jwt.dto.TokenValidationResponse;
 import com.hermes.userservice.dto.ApiResponse;
+import com.hermes.userservice.jwt.dto.BatchTokenValidationRequest;
+import com.hermes.userservice.jwt.dto.BatchTokenValidationResponse;
 import com.hermes.userservice.jwt.dto.RefreshRequest;
 import com.hermes.userservice.jwt.dto.TokenRequest;
 import com.hermes.userservice.jwt.dto.TokenResponse;
-import com.hermes.userservice.jwt.entity.RefreshToken;
-import com.hermes.userservice.jwt.repository.RefreshTokenRepository;
+import com.hermes.userservice.jwt.service.RefreshTokenService;
+import com.hermes.userservice.jwt.service.TokenValidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 import com.hermes.userservice.service.TokenBlacklistService;
@@ -31,8 +32,9 @@ import com.hermes.userservice.service.TokenBlacklistService;
 public class TokenController {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final TokenValidationService tokenValidationService;
 
     @PostMapping("/generate")
     public ResponseEntity<ApiResponse<TokenResponse>> generateToken(@RequestBody TokenRequest request) {
@@ -44,13 +46,7 @@ public class TokenController {
         
         log.info("토큰 생성: 현재시간={}, 만료시간={}, userId={}", now, expiration, request.getUserId());
         
-        refreshTokenRepository.save(
-                RefreshToken.builder()
-                        .userId(request.getUserId())
-                        .token(refreshToken)
-                        .expiration(expiration)
-                        .build()
-        );
+        refreshTokenService.issue(request.getUserId(), refreshToken, expiration);
 
         return ResponseEntity.ok(ApiResponse.success("토큰이 성공적으로 생성되었습니다.", new TokenResponse(accessToken, refreshToken)));
     }
@@ -73,14 +69,12 @@ public class TokenController {
             throw new RuntimeException("유효하지 않은 토큰입니다.");
         }
 
-        Long userId = Long.valueOf(jwtTokenProvider.getClaimFromToken(token, "userId"));
+        JwtPayload payload = jwtTokenProvider.getPayloadFromToken(token);
+        Long userId = Long.valueOf(payload.getUserId());
         log.info(" [Token Controller] JWT에서 userId 추출: {}", userId);
 
-        RefreshToken saved = refreshTokenRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("RefreshToken not found"));
-    
-        if (!saved.getToken().equals(request.getRefreshToken())) {
-            throw new RuntimeException("유효하지 않은 RefreshToken입니다.");
+        if (request.getRefreshToken() == null || request.getRefreshToken().isEmpty()) {
+            throw new IllegalArgumentException("RefreshToken이 누락되었습니다.");
         }
 
         if (tokenBlacklistService.isRefreshTokenBlacklisted(request.getRefreshToken())) {
@@ -88,18 +82,16 @@ public class TokenController {
             throw new RuntimeException("로그아웃된 Refresh Token입니다.");
         }
 
-        Instant now = Instant.now();
-        Instant expiration = saved.getExpiration().atZone(ZoneId.systemDefault()).toInstant();
-        
-        if (expiration.isBefore(now)) {
-            log.warn("RefreshToken 만료: 현재시간={}, 만료시간={}, userId={}", now, expiration, userId);
-            throw new RuntimeException("만료된 RefreshToken입니다.");
-        }
+        // 제시된 Refresh Token 을 사용 처리하고 같은 family 의 새 토큰으로 교체
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(payload.getEmail());
+        refreshTokenService.rotate(userId, request.getRefreshToken(), newRefreshToken,
+                LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshExpiration() / 1000));
 
-        String newAccessToken = jwtTokenProvider.createToken(request.getEmail(), userId, "USER");
+        String newAccessToken = jwtTokenProvider.createToken(payload.getEmail(), userId,
+                payload.getRole() != null ? payload.getRole() : "USER");
     
         log.info(" [Token Controller] 토큰 갱신 성공: userId={}", userId);
-        return ResponseEntity.ok(ApiResponse.success("토큰이 성공적으로 갱신되었습니다.", new TokenResponse(newAccessToken, saved.getToken())));
+        return ResponseEntity.ok(ApiResponse.success("토큰이 성공적으로 갱신되었습니다.", new TokenResponse(newAccessToken, newRefreshToken)));
     }
 
     @PostMapping("/validate")
@@ -134,6 +126,16 @@ public class TokenController {
         return ResponseEntity.ok(ApiResponse.success("토큰 검증이 성공했습니다.", response));
     }
 
+    // DB 접근이 없으므로 클래스 단위 트랜잭션(커넥션 점유)에서 제외
+    @PostMapping("/validate/batch")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponse<BatchTokenValidationResponse>> validateTokens(@RequestBody BatchTokenValidationRequest request) {
+        log.info(" [Token Controller] 일괄 JWT 검증 요청 받음: {}건", request.getTokens() != null ? request.getTokens().size() : 0);
+
+        BatchTokenValidationResponse response = tokenValidationService.validateAll(request.getTokens());
+        return ResponseEntity.ok(ApiResponse.success("일괄 토큰 검증이 완료되었습니다.", response));
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Map<String, String>>> logout(@RequestHeader("X-User-Id") String userId,
                                                              @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader,
@@ -157,8 +159,13 @@ public class TokenController {
         }
 
         try {
-            refreshTokenRepository.deleteById(Long.valueOf(userId));
-            log.info(" [Token Controller] RefreshToken 삭제 완료 - userId: {}", userId);
+            // 토큰이 주어지면 해당 기기(family)만, 아니면 전체 기기 로그아웃
+            if (refreshToken != null && !refreshToken.isEmpty()) {
+                refreshTokenService.revoke(refreshToken);
+            } else {
+                refreshTokenService.revokeAll(Long.valueOf(userId));
+            }
+            log.info(" [Token Controller] RefreshToken 폐기 완료 - userId: {}", userId);
 
             if (accessToken != null && !accessToken.isEmpty()) {
                 tokenBlacklistService.blacklistToken(accessToken, jwtTokenProvider.getExpirationTime());
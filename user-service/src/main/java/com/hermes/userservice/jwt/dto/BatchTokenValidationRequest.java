@@ -0,0 +1,16 @@
+package com.hermes.userservice.jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTokenValidationRequest {
+    private List<String> tokens;
+}
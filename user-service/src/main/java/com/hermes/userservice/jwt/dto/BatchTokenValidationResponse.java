@@ -0,0 +1,19 @@
+package com.hermes.userservice.jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTokenValidationResponse {
+    private int total;
+    private int validCount;
+    private int revokedCount;
+    private List<TokenValidationItem> results;
+}
@@ -0,0 +1,24 @@
+package com.hermes.userservice.jwt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일괄 검증 결과 중 토큰 한 건에 대한 결과 (index는 요청 목록에서의 위치)
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenValidationItem {
+    private int index;
+    private boolean valid;
+    private boolean revoked;
+    private String message;
+    private String userId;
+    private String email;
+    private String role;
+}
@@ -11,10 +11,17 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 
-// RefreshToken Entity - userId 기준으로 1:1 관리
+// RefreshToken Entity - 로그인(기기) 단위 family 로 관리, 원문 대신 SHA-256 해시만 저장
+// 갱신 시마다 새 토큰으로 교체(rotation)되며, 이미 교체된 토큰이 다시 사용되면 family 전체를 폐기한다.
+// (기존 refresh_tokens 테이블은 userId 가 PK 라 다중 기기를 지원할 수 없어 새 테이블을 사용)
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "user_refresh_tokens", indexes = {
+        @Index(name = "ux_user_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_user_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "ix_user_refresh_tokens_user_id", columnList = "user_id"),
+        @Index(name = "ix_user_refresh_tokens_expiration", columnList = "expiration")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,12 +30,28 @@ import java.time.LocalDateTime;
 public class RefreshToken {
 
     @Id
-    private Long userId;
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
 
-    private String token;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
 
+    @Column(nullable = false)
     private LocalDateTime expiration;
 
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;  // 교체(rotation)된 시각 - null 이면 현재 유효한 토큰
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean revoked = false;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
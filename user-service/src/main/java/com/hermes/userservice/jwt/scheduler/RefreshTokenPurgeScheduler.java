@@ -0,0 +1,96 @@
+package com.hermes.userservice.jwt.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// 만료된 Refresh Token 정리 스케줄러
+// expiration 인덱스를 따라 chunk 단위로 삭제하고, chunk 사이에 쉬어 가며 운영 트래픽과 잠금 경합을 줄인다.
+// 스케줄러 스레드는 실행만 넘기고 바로 돌아온다 (실제 정리는 전용 스레드에서).
+// 기존 refresh_tokens 테이블은 여기서 다루지 않는다 (db/retire-legacy-refresh-tokens.sql 로 한 번 정리).
+
+@Slf4j
+@Component
+public class RefreshTokenPurgeScheduler {
+
+    // 각 chunk 는 별도 문장(자동 커밋)으로 실행되어 긴 트랜잭션/대량 잠금을 만들지 않음
+    private static final String DELETE_EXPIRED_CHUNK_SQL =
+            "DELETE FROM user_refresh_tokens WHERE id IN (" +
+            "SELECT id FROM user_refresh_tokens WHERE expiration < ? ORDER BY expiration LIMIT ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor purgeExecutor;
+    private final Counter purgedCounter;
+    private final Timer purgeTimer;
+
+    @Value("${token.refresh.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${token.refresh.purge.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${token.refresh.purge.max-chunks:500}")
+    private int maxChunks;
+
+    public RefreshTokenPurgeScheduler(JdbcTemplate jdbcTemplate,
+                                      @Qualifier("refreshTokenPurgeExecutor") ThreadPoolTaskExecutor purgeExecutor,
+                                      MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.purgeExecutor = purgeExecutor;
+        this.purgedCounter = Counter.builder("token.refresh.purged")
+                .description("삭제된 만료 Refresh Token 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("token.refresh.purge.duration")
+                .description("만료 Refresh Token 정리 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${token.refresh.purge.cron:0 0 4 * * *}")
+    public void schedulePurge() {
+        try {
+            purgeExecutor.execute(this::purgeExpiredTokens);
+        } catch (TaskRejectedException e) {
+            log.info(" [Scheduler] 이전 Refresh Token 정리가 아직 진행 중 - 이번 실행은 건너뜀");
+        }
+    }
+
+    void purgeExpiredTokens() {
+        log.info(" [Scheduler] 만료된 Refresh Token 정리 시작");
+        try {
+            int purged = purgeTimer.recordCallable(this::purge);
+            log.info(" [Scheduler] 만료된 Refresh Token 정리 완료: {}건 삭제", purged);
+        } catch (Exception e) {
+            log.error(" [Scheduler] 만료된 Refresh Token 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private int purge() throws InterruptedException {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now());
+        int total = 0;
+
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int deleted = jdbcTemplate.update(DELETE_EXPIRED_CHUNK_SQL, cutoff, chunkSize);
+            total += deleted;
+            purgedCounter.increment(deleted);
+
+            if (deleted < chunkSize) {
+                return total;
+            }
+            Thread.sleep(pauseMs);
+        }
+
+        log.info(" [Scheduler] 최대 chunk 수({}) 도달 - 남은 만료 토큰은 다음 실행에서 정리", maxChunks);
+        return total;
+    }
+}
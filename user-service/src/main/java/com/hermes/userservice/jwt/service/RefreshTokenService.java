@@ -0,0 +1,126 @@
+package com.hermes.userservice.jwt.service;
+
+import com.hermes.userservice.exception.InvalidRefreshTokenException;
+import com.hermes.userservice.jwt.entity.RefreshToken;
+import com.hermes.userservice.jwt.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+// Refresh Token 저장소 - family(로그인 기기) 단위 발급, 교체(rotation), 재사용 탐지, 폐기
+
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    // 현재 토큰을 사용 처리하면서 소유 정보를 돌려받는 단일 인덱스 조회 (PostgreSQL RETURNING)
+    private static final String ROTATE_SQL =
+            "UPDATE user_refresh_tokens SET used_at = ? " +
+            "WHERE token_hash = ? AND user_id = ? AND used_at IS NULL AND revoked = false AND expiration > ? " +
+            "RETURNING family_id";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 새 로그인 - 새 family 로 발급
+    @Transactional
+    public void issue(Long userId, String token, LocalDateTime expiration) {
+        save(userId, UUID.randomUUID().toString(), token, expiration);
+    }
+
+    // 제시된 토큰을 사용 처리하고 같은 family 로 새 토큰을 저장
+    @Transactional
+    public void rotate(Long userId, String presentedToken, String newToken, LocalDateTime newExpiration) {
+        String tokenHash = hash(presentedToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> familyIds = jdbcTemplate.queryForList(ROTATE_SQL, String.class,
+                Timestamp.valueOf(now), tokenHash, userId, Timestamp.valueOf(now));
+
+        if (familyIds.isEmpty()) {
+            throw handleRejectedToken(userId, tokenHash);
+        }
+
+        save(userId, familyIds.get(0), newToken, newExpiration);
+        log.info(" [RefreshTokenService] Refresh Token 교체 완료 - userId: {}", userId);
+    }
+
+    // 특정 기기(family) 로그아웃
+    @Transactional
+    public void revoke(String token) {
+        refreshTokenRepository.findByTokenHash(hash(token))
+                .ifPresent(saved -> refreshTokenRepository.revokeFamily(saved.getFamilyId()));
+    }
+
+    // 전체 기기 로그아웃
+    @Transactional
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId);
+        log.info(" [RefreshTokenService] Refresh Token 전체 폐기 - userId: {}, {}건", userId, revoked);
+    }
+
+    // 교체가 거절된 이유에 맞는 예외를 만든다 (던지는 것은 호출 측)
+    private InvalidRefreshTokenException handleRejectedToken(Long userId, String tokenHash) {
+        RefreshToken saved = refreshTokenRepository.findByTokenHash(tokenHash)
+                .filter(token -> token.getUserId().equals(userId))
+                .orElse(null);
+        if (saved == null) {
+            return new InvalidRefreshTokenException("유효하지 않은 RefreshToken입니다.");
+        }
+
+        if (saved.getUsedAt() != null && !saved.getRevoked()) {
+            // 이미 교체된 토큰의 재사용 = 탈취 가능성 → family 전체 폐기 (요청 트랜잭션이 롤백되어도 유지되도록 별도 트랜잭션)
+            requiresNewTransaction.executeWithoutResult(status -> refreshTokenRepository.revokeFamily(saved.getFamilyId()));
+            log.warn(" [RefreshTokenService] 교체된 Refresh Token 재사용 탐지 - family 폐기: userId={}", userId);
+            return new InvalidRefreshTokenException("이미 사용된 RefreshToken입니다. 다시 로그인해 주세요.");
+        }
+
+        if (saved.getRevoked()) {
+            return new InvalidRefreshTokenException("로그아웃된 RefreshToken입니다.");
+        }
+        return new InvalidRefreshTokenException("만료된 RefreshToken입니다.");
+    }
+
+    private void save(Long userId, String familyId, String token, LocalDateTime expiration) {
+        refreshTokenRepository.save(
+                RefreshToken.builder()
+                        .userId(userId)
+                        .familyId(familyId)
+                        .tokenHash(hash(token))
+                        .expiration(expiration)
+                        .build()
+        );
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
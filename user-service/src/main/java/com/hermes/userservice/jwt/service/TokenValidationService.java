@@ -0,0 +1,134 @@
+package com.hermes.userservice.jwt.service;
+
+import com.hermes.jwt.InvalidJwtException;
+import com.hermes.jwt.JwtPayload;
+import com.hermes.jwt.JwtTokenProvider;
+import com.hermes.userservice.jwt.dto.BatchTokenValidationResponse;
+import com.hermes.userservice.jwt.dto.TokenValidationItem;
+import com.hermes.userservice.service.TokenBlacklistService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 여러 토큰을 한 번의 요청으로 검증하는 서비스 - 토큰 목록을 구간으로 나눠 전용 풀에서 병렬 처리
+
+@Slf4j
+@Service
+public class TokenValidationService {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final ThreadPoolTaskExecutor tokenValidationExecutor;
+
+    @Value("${token.validation.batch.max-size:500}")
+    private int maxBatchSize;
+
+    public TokenValidationService(JwtTokenProvider jwtTokenProvider,
+                                  TokenBlacklistService tokenBlacklistService,
+                                  @Qualifier("tokenValidationExecutor") ThreadPoolTaskExecutor tokenValidationExecutor) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.tokenValidationExecutor = tokenValidationExecutor;
+    }
+
+    public BatchTokenValidationResponse validateAll(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            throw new IllegalArgumentException("검증할 토큰 목록이 비어 있습니다.");
+        }
+        if (tokens.size() > maxBatchSize) {
+            throw new IllegalArgumentException(String.format("한 번에 최대 %d개의 토큰만 검증할 수 있습니다.", maxBatchSize));
+        }
+
+        int total = tokens.size();
+        int sliceSize = Math.max(1, (total + tokenValidationExecutor.getMaxPoolSize() - 1) / tokenValidationExecutor.getMaxPoolSize());
+
+        List<CompletableFuture<List<TokenValidationItem>>> futures = new ArrayList<>();
+        for (int from = 0; from < total; from += sliceSize) {
+            final int start = from;
+            final int end = Math.min(from + sliceSize, total);
+            futures.add(CompletableFuture.supplyAsync(() -> validateSlice(tokens, start, end), tokenValidationExecutor));
+        }
+
+        List<TokenValidationItem> results = new ArrayList<>(total);
+        futures.forEach(future -> results.addAll(future.join()));
+
+        int validCount = (int) results.stream().filter(TokenValidationItem::isValid).count();
+        int revokedCount = (int) results.stream().filter(TokenValidationItem::isRevoked).count();
+        log.info(" [TokenValidationService] 일괄 JWT 검증 완료: 전체={}, 유효={}, 로그아웃={}", total, validCount, revokedCount);
+
+        return BatchTokenValidationResponse.builder()
+                .total(total)
+                .validCount(validCount)
+                .revokedCount(revokedCount)
+                .results(results)
+                .build();
+    }
+
+    private List<TokenValidationItem> validateSlice(List<String> tokens, int start, int end) {
+        List<TokenValidationItem> slice = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            slice.add(validate(i, tokens.get(i)));
+        }
+        return slice;
+    }
+
+    private TokenValidationItem validate(int index, String token) {
+        if (!StringUtils.hasText(token)) {
+            return invalid(index, "토큰이 비어 있습니다.");
+        }
+
+        String raw = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+
+        JwtPayload payload;
+        try {
+            payload = jwtTokenProvider.getPayloadFromToken(raw);
+        } catch (InvalidJwtException e) {
+            return invalid(index, e.getMessage());
+        } catch (RuntimeException e) {
+            // 토큰 하나의 파싱 오류가 구간 전체(=일괄 요청 전체)를 실패시키지 않도록 해당 항목만 무효 처리
+            log.debug(" [TokenValidationService] 토큰 파싱 실패 (index={}): {}", index, e.getMessage());
+            return invalid(index, "유효하지 않은 토큰입니다.");
+        }
+
+        if (payload.getEmail() == null || payload.getUserId() == null) {
+            return invalid(index, "클레임 정보가 누락되었습니다.");
+        }
+
+        if (tokenBlacklistService.isBlacklisted(raw)) {
+            return TokenValidationItem.builder()
+                    .index(index)
+                    .valid(false)
+                    .revoked(true)
+                    .message("로그아웃된 토큰입니다.")
+                    .userId(payload.getUserId())
+                    .email(payload.getEmail())
+                    .role(payload.getRole())
+                    .build();
+        }
+
+        return TokenValidationItem.builder()
+                .index(index)
+                .valid(true)
+                .userId(payload.getUserId())
+                .email(payload.getEmail())
+                .role(payload.getRole())
+                .build();
+    }
+
+    private TokenValidationItem invalid(int index, String message) {
+        return TokenValidationItem.builder()
+                .index(index)
+                .valid(false)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.dto.OrganizationMemberDto;
+import com.hermes.userservice.entity.EmployeeAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EmployeeAssignmentRepository extends JpaRepository<EmployeeAssignment, Long> {
+
+    // 조직 하위 트리 전체 소속 인원 - closure table 조인으로 한 번에 조회
+    @Query("select new com.hermes.userservice.dto.OrganizationMemberDto(" +
+            "u.id, u.name, u.email, o.organizationId, o.name, a.isPrimary, a.isLeader) " +
+            "from EmployeeAssignment a join a.employee u join a.organization o " +
+            "where o.organizationId in (" +
+            "  select c.descendantId from OrganizationClosure c where c.ancestorId = :organizationId) " +
+            "order by o.organizationId, u.name")
+    List<OrganizationMemberDto> findMembersInSubtree(@Param("organizationId") Long organizationId);
+
+    @Query("select distinct a.employee.id from EmployeeAssignment a " +
+            "where a.organization.organizationId in (" +
+            "  select c.descendantId from OrganizationClosure c where c.ancestorId = :organizationId)")
+    List<Long> findMemberIdsInSubtree(@Param("organizationId") Long organizationId);
+}
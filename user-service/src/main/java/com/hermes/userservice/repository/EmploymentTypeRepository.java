@@ -0,0 +1,7 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.entity.EmploymentType;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EmploymentTypeRepository extends JpaRepository<EmploymentType, Long> {
+}
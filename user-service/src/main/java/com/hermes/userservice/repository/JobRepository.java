@@ -0,0 +1,7 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.entity.Job;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobRepository extends JpaRepository<Job, Long> {
+}
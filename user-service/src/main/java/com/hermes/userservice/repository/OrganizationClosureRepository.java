@@ -0,0 +1,61 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.entity.OrganizationClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrganizationClosureRepository extends JpaRepository<OrganizationClosure, OrganizationClosure.Key> {
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    long countByDepth(Integer depth);
+
+    // 새 조직 1단계: 자기 자신과의 관계 (depth 0)
+    @Modifying
+    @Query(value = "INSERT INTO organization_closure (ancestor_id, descendant_id, depth) " +
+            "VALUES (:organizationId, :organizationId, 0)", nativeQuery = true)
+    int insertSelf(@Param("organizationId") Long organizationId);
+
+    // 새 조직 2단계: 상위 조직의 모든 조상과의 관계
+    @Modifying
+    @Query(value = "INSERT INTO organization_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, :organizationId, depth + 1 FROM organization_closure WHERE descendant_id = :parentId",
+            nativeQuery = true)
+    int insertUnderParent(@Param("organizationId") Long organizationId, @Param("parentId") Long parentId);
+
+    // 하위 트리 이동 1단계: 하위 트리와 기존 상위 조직들 사이의 관계 제거
+    @Modifying
+    @Query(value = "DELETE FROM organization_closure " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM organization_closure WHERE ancestor_id = :organizationId) " +
+            "AND ancestor_id NOT IN (SELECT descendant_id FROM organization_closure WHERE ancestor_id = :organizationId)",
+            nativeQuery = true)
+    int detachSubtree(@Param("organizationId") Long organizationId);
+
+    // 하위 트리 이동 2단계: 새 상위 조직의 모든 조상 × 하위 트리 전체 관계 추가
+    @Modifying
+    @Query(value = "INSERT INTO organization_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT anc.ancestor_id, sub.descendant_id, anc.depth + sub.depth + 1 " +
+            "FROM organization_closure anc CROSS JOIN organization_closure sub " +
+            "WHERE anc.descendant_id = :parentId AND sub.ancestor_id = :organizationId", nativeQuery = true)
+    int attachSubtree(@Param("organizationId") Long organizationId, @Param("parentId") Long parentId);
+
+    @Modifying
+    @Query(value = "DELETE FROM organization_closure WHERE descendant_id = :organizationId", nativeQuery = true)
+    int deleteNode(@Param("organizationId") Long organizationId);
+
+    @Modifying
+    @Query(value = "DELETE FROM organization_closure", nativeQuery = true)
+    int deleteAllRows();
+
+    // parent_id 로부터 전체 closure 재구성 (최초 도입/불일치 복구용)
+    @Modifying
+    @Query(value = "INSERT INTO organization_closure (ancestor_id, descendant_id, depth) " +
+            "WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (" +
+            "  SELECT organization_id, organization_id, 0 FROM organization " +
+            "  UNION ALL " +
+            "  SELECT t.ancestor_id, o.organization_id, t.depth + 1 FROM tree t JOIN organization o ON o.parent_id = t.descendant_id" +
+            ") SELECT ancestor_id, descendant_id, depth FROM tree", nativeQuery = true)
+    int rebuildFromParents();
+}
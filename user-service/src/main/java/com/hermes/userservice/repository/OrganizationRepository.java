@@ -0,0 +1,20 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.dto.OrganizationTreeRow;
+import com.hermes.userservice.entity.Organization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface OrganizationRepository extends JpaRepository<Organization, Long> {
+
+    boolean existsByName(String name);
+
+    boolean existsByParent_OrganizationId(Long parentId);
+
+    // 트리 스냅샷 생성용 - 엔티티/소속 인원 로딩 없이 (id, 이름, 상위 id)만 조회
+    @Query("select new com.hermes.userservice.dto.OrganizationTreeRow(o.organizationId, o.name, p.organizationId) " +
+            "from Organization o left join o.parent p")
+    List<OrganizationTreeRow> findAllTreeRows();
+}
@@ -0,0 +1,7 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.entity.Position;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PositionRepository extends JpaRepository<Position, Long> {
+}
@@ -0,0 +1,7 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.entity.Rank;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RankRepository extends JpaRepository<Rank, Long> {
+}
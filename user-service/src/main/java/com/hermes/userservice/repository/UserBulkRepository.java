@@ -0,0 +1,107 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.dto.UserImportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 사용자 대량 등록용 JDBC 저장소
+// users.id 는 IDENTITY 라 JPA 로는 insert 배치가 불가능하므로, 시퀀스에서 id 를 미리 한 번에 받아 와 JDBC batch insert 한다.
+
+@Repository
+@RequiredArgsConstructor
+public class UserBulkRepository {
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('users', 'id')) FROM generate_series(1, ?)";
+
+    private static final String EXISTING_EMAILS_SQL = "SELECT email FROM users WHERE email = ANY (?)";
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (id, name, email, password, phone, address, join_date, is_admin, needs_password_reset, " +
+            "employment_type_wid, rank_id, position_id, job_id, role, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ASSIGNMENT_SQL =
+            "INSERT INTO employee_assignment (employee_id, organization_id, is_primary, is_leader) VALUES (?, ?, true, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewUser(long id, UserImportRow row, String passwordHash, boolean needsPasswordReset) {
+    }
+
+    public List<Long> allocateUserIds(int count) {
+        return jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, count);
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query(EXISTING_EMAILS_SQL, ps -> {
+            Array array = ps.getConnection().createArrayOf("varchar", emails.toArray());
+            ps.setArray(1, array);
+        }, rs -> {
+            existing.add(rs.getString(1));
+        });
+        return existing;
+    }
+
+    public void insertUsers(List<NewUser> users, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, batchSize, (ps, user) -> {
+            UserImportRow row = user.row();
+            ps.setLong(1, user.id());
+            ps.setString(2, row.getName());
+            ps.setString(3, row.getEmail());
+            ps.setString(4, user.passwordHash());
+            ps.setString(5, row.getPhone());
+            ps.setString(6, row.getAddress());
+            ps.setDate(7, Date.valueOf(row.getJoinDate() != null ? row.getJoinDate() : LocalDate.now()));
+            ps.setBoolean(8, false);  // 대량 등록으로는 관리자 계정을 만들지 않음
+            ps.setBoolean(9, user.needsPasswordReset());
+            setLong(ps, 10, row.getEmploymentTypeId());
+            setLong(ps, 11, row.getRankId());
+            setLong(ps, 12, row.getPositionId());
+            setLong(ps, 13, row.getJobId());
+            ps.setString(14, row.getRole());
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+    }
+
+    // 메인 부서 배정 (organizationId 가 있는 행만)
+    public void insertPrimaryAssignments(List<NewUser> users, int batchSize) {
+        List<NewUser> assigned = users.stream().filter(user -> user.row().getOrganizationId() != null).toList();
+        if (assigned.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT_SQL, assigned, batchSize, (ps, user) -> {
+            ps.setLong(1, user.id());
+            ps.setLong(2, user.row().getOrganizationId());
+            ps.setBoolean(3, Boolean.TRUE.equals(user.row().getIsLeader()));
+        });
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
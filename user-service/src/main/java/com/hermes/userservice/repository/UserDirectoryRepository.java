@@ -0,0 +1,89 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.dto.UserDirectoryEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 직원 디렉터리 조회 - (name, id) keyset 페이지네이션
+// 조건이 선택적이라 JPQL 의 "is null or" 패턴 대신 실제 적용되는 조건만 붙여 인덱스를 그대로 타게 한다.
+
+@Repository
+@RequiredArgsConstructor
+public class UserDirectoryRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT u.id, u.name, u.email, u.phone, u.profile_image, " +
+            "       r.id AS rank_id, r.name AS rank_name, p.id AS position_id, p.name AS position_name, " +
+            "       o.organization_id, o.name AS organization_name " +
+            "FROM users u " +
+            "LEFT JOIN ranks r ON r.id = u.rank_id " +
+            "LEFT JOIN positions p ON p.id = u.position_id " +
+            "LEFT JOIN LATERAL (SELECT ea.organization_id FROM employee_assignment ea " +
+            "                   WHERE ea.employee_id = u.id AND ea.is_primary = true LIMIT 1) pa ON true " +
+            "LEFT JOIN organization o ON o.organization_id = pa.organization_id ";
+
+    private static final String COUNT_SQL = "SELECT count(*) FROM users u ";
+
+    private static final RowMapper<UserDirectoryEntry> ROW_MAPPER = (rs, rowNum) -> new UserDirectoryEntry(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("email"),
+            rs.getString("phone"),
+            rs.getString("profile_image"),
+            rs.getObject("rank_id", Long.class),
+            rs.getString("rank_name"),
+            rs.getObject("position_id", Long.class),
+            rs.getString("position_name"),
+            rs.getObject("organization_id", Long.class),
+            rs.getString("organization_name"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // limit 건 조회 (hasNext 판단을 위해 호출 측에서 size + 1 을 넘긴다)
+    public List<UserDirectoryEntry> findPage(Long organizationId, Long rankId, Long positionId,
+                                             String cursorName, Long cursorId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        appendFilters(sql, params, organizationId, rankId, positionId);
+        if (cursorName != null && cursorId != null) {
+            sql.append(" AND (u.name, u.id) > (:cursorName, :cursorId)");
+            params.addValue("cursorName", cursorName).addValue("cursorId", cursorId);
+        }
+        sql.append(" ORDER BY u.name, u.id LIMIT :limit");
+        params.addValue("limit", limit);
+        return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    public long count(Long organizationId, Long rankId, Long positionId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(COUNT_SQL);
+        appendFilters(sql, params, organizationId, rankId, positionId);
+        Long count = jdbcTemplate.queryForObject(sql.toString(), params, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private void appendFilters(StringBuilder sql, MapSqlParameterSource params,
+                               Long organizationId, Long rankId, Long positionId) {
+        sql.append("WHERE 1 = 1");
+        if (rankId != null) {
+            sql.append(" AND u.rank_id = :rankId");
+            params.addValue("rankId", rankId);
+        }
+        if (positionId != null) {
+            sql.append(" AND u.position_id = :positionId");
+            params.addValue("positionId", positionId);
+        }
+        if (organizationId != null) {
+            // 하위 조직 소속까지 포함 (organization_closure)
+            sql.append(" AND EXISTS (SELECT 1 FROM employee_assignment f " +
+                    "JOIN organization_closure c ON c.descendant_id = f.organization_id " +
+                    "WHERE f.employee_id = u.id AND c.ancestor_id = :organizationId)");
+            params.addValue("organizationId", organizationId);
+        }
+    }
+}
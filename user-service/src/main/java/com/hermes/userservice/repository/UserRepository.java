@@ -1,10 +1,38 @@
 package com.hermes.userservice.repository;
 
+import com.hermes.userservice.dto.UserAuthInfo;
 import com.hermes.userservice.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // 프로필 조회 - 소속 부서를 fetch join 으로 함께 로딩
+    @EntityGraph(User.GRAPH_ASSIGNMENTS)
+    Optional<User> findWithAssignmentsById(Long id);
+
+    @EntityGraph(User.GRAPH_ASSIGNMENTS)
+    List<User> findWithAssignmentsByIdIn(Collection<Long> ids);
+
+    // 로그인용 projection - 엔티티/연관관계 로딩 없이 필요한 컬럼만 조회
+    @Query("select new com.hermes.userservice.dto.UserAuthInfo(u.id, u.email, u.password, u.isAdmin, u.needsPasswordReset) " +
+            "from User u where u.email = :email")
+    Optional<UserAuthInfo> findAuthInfoByEmail(@Param("email") String email);
+
+    // 재해시 결과 저장 - 그 사이 비밀번호가 변경되었다면 덮어쓰지 않는다
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
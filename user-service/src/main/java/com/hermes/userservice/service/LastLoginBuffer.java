@@ -0,0 +1,86 @@
+package com.hermes.userservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 마지막 로그인 시각 write-behind 버퍼
+// 로그인마다 UPDATE 하지 않고 사용자별 최신 시각만 모아 두었다가 주기적으로(그리고 종료 시) 한 번의 배치 UPDATE로 반영한다.
+
+@Slf4j
+@Component
+public class LastLoginBuffer {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login_at = ? WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+
+    @Value("${user.last-login.batch-size:500}")
+    private int batchSize;
+
+    public LastLoginBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushedCounter = Counter.builder("user.last-login.flushed")
+                .description("DB에 반영된 마지막 로그인 시각 수")
+                .register(meterRegistry);
+        Gauge.builder("user.last-login.pending", pending, Map::size)
+                .description("반영 대기 중인 마지막 로그인 시각 수")
+                .register(meterRegistry);
+    }
+
+    public void record(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    @Scheduled(fixedDelayString = "${user.last-login.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.add(Map.entry(userId, loginAt));
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batchSize, (ps, entry) -> {
+                Timestamp loginAt = Timestamp.valueOf(entry.getValue());
+                ps.setTimestamp(1, loginAt);
+                ps.setLong(2, entry.getKey());
+                ps.setTimestamp(3, loginAt);
+            });
+            flushedCounter.increment(batch.size());
+            log.debug(" [LastLoginBuffer] 마지막 로그인 시각 {}건 반영", batch.size());
+        } catch (DataAccessException e) {
+            // 반영 실패분은 다시 버퍼에 넣어 다음 주기에 재시도 (그 사이 들어온 더 최신 값은 유지)
+            batch.forEach(entry -> record(entry.getKey(), entry.getValue()));
+            log.warn(" [LastLoginBuffer] 마지막 로그인 시각 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
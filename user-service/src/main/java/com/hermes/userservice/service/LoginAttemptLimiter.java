@@ -0,0 +1,159 @@
+package com.hermes.userservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.userservice.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 로그인 실패 횟수 제한 (이메일별 / IP별 sliding window)
+// DB 조회나 해시 비교 전에 검사하여, 크리덴셜 스터핑 시 거절 비용을 메모리 조회 수준으로 낮춘다.
+// 창(window)을 여러 버킷으로 나눈 근사 sliding window 이며, 키는 마지막 접근 후 창 길이만큼 지나면 자동 제거된다.
+
+@Slf4j
+@Component
+public class LoginAttemptLimiter {
+
+    private static final String MESSAGE = "로그인 실패 횟수가 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final Cache<String, SlidingWindowCounter> counters;
+    private final long bucketMillis;
+    private final int buckets;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+    private final Counter emailRejectedCounter;
+    private final Counter ipRejectedCounter;
+
+    public LoginAttemptLimiter(MeterRegistry meterRegistry,
+                               @Value("${login.limit.window-seconds:900}") long windowSeconds,
+                               @Value("${login.limit.buckets:15}") int buckets,
+                               @Value("${login.limit.max-failures-per-email:5}") int maxFailuresPerEmail,
+                               @Value("${login.limit.max-failures-per-ip:50}") int maxFailuresPerIp,
+                               @Value("${login.limit.max-keys:100000}") long maxKeys) {
+        this.buckets = buckets;
+        this.bucketMillis = Math.max(1, windowSeconds * 1000 / buckets);
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofSeconds(windowSeconds))
+                .build();
+
+        this.emailRejectedCounter = Counter.builder("login.attempts.rejected")
+                .description("실패 횟수 제한으로 거절된 로그인 수")
+                .tag("scope", "email")
+                .register(meterRegistry);
+        this.ipRejectedCounter = Counter.builder("login.attempts.rejected")
+                .description("실패 횟수 제한으로 거절된 로그인 수")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+        Gauge.builder("login.attempts.tracked", counters, Cache::estimatedSize)
+                .description("실패 횟수를 추적 중인 이메일/IP 수")
+                .register(meterRegistry);
+    }
+
+    // 제한 초과 시 TooManyLoginAttemptsException
+    public void checkAllowed(String email, String clientIp) {
+        long bucket = currentBucket();
+        check(emailKey(email), maxFailuresPerEmail, bucket, emailRejectedCounter);
+        if (clientIp != null) {
+            check(ipKey(clientIp), maxFailuresPerIp, bucket, ipRejectedCounter);
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        long bucket = currentBucket();
+        counters.get(emailKey(email), key -> new SlidingWindowCounter(buckets)).increment(bucket);
+        if (clientIp != null) {
+            counters.get(ipKey(clientIp), key -> new SlidingWindowCounter(buckets)).increment(bucket);
+        }
+    }
+
+    // 로그인 성공 시 이메일 기준 실패 기록만 초기화 (IP 기준은 유지)
+    public void reset(String email) {
+        counters.invalidate(emailKey(email));
+    }
+
+    private void check(String key, int limit, long bucket, Counter rejectedCounter) {
+        SlidingWindowCounter counter = counters.getIfPresent(key);
+        if (counter == null || counter.sum(bucket) < limit) {
+            return;
+        }
+
+        rejectedCounter.increment();
+        long oldest = counter.oldestBucket(bucket);
+        long retryAfterMillis = (oldest + buckets) * bucketMillis - System.currentTimeMillis();
+        log.warn("[LoginAttemptLimiter] 로그인 제한 - key: {}", key);
+        throw new TooManyLoginAttemptsException(MESSAGE, Math.max(1, (retryAfterMillis + 999) / 1000));
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email != null ? email.trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    // 버킷마다 (버킷 번호 << 24 | 횟수) 를 long 하나로 묶어 CAS 로 갱신 - 버킷 교체와 증가가 원자적으로 일어난다
+    static final class SlidingWindowCounter {
+
+        private static final int COUNT_BITS = 24;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final AtomicLongArray slots;
+
+        SlidingWindowCounter(int buckets) {
+            this.slots = new AtomicLongArray(buckets);
+        }
+
+        void increment(long bucket) {
+            int index = (int) (bucket % slots.length());
+            while (true) {
+                long current = slots.get(index);
+                long next = (current >>> COUNT_BITS) == bucket
+                        ? (current & COUNT_MASK) < COUNT_MASK ? current + 1 : current
+                        : (bucket << COUNT_BITS) | 1;
+                if (slots.compareAndSet(index, current, next)) {
+                    return;
+                }
+            }
+        }
+
+        long sum(long currentBucket) {
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long value = slots.get(i);
+                if (currentBucket - (value >>> COUNT_BITS) < slots.length()) {
+                    total += value & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+
+        // 창 안에 남아 있는 가장 오래된 버킷 (이 버킷이 빠지면 다시 시도 가능)
+        long oldestBucket(long currentBucket) {
+            long oldest = currentBucket;
+            for (int i = 0; i < slots.length(); i++) {
+                long value = slots.get(i);
+                long bucket = value >>> COUNT_BITS;
+                if ((value & COUNT_MASK) > 0 && currentBucket - bucket < slots.length() && bucket < oldest) {
+                    oldest = bucket;
+                }
+            }
+            return oldest;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.OrganizationMemberDto;
+import com.hermes.userservice.dto.OrganizationRequest;
+import com.hermes.userservice.dto.OrganizationTreeNode;
+import com.hermes.userservice.entity.Organization;
+import com.hermes.userservice.exception.BusinessException;
+import com.hermes.userservice.exception.OrganizationNotFoundException;
+import com.hermes.userservice.repository.EmployeeAssignmentRepository;
+import com.hermes.userservice.repository.OrganizationClosureRepository;
+import com.hermes.userservice.repository.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 조직 계층 관리 - 상하위 관계는 organization_closure 테이블로 유지하고,
+// 트리 조회는 커밋 후 재구성되는 메모리 스냅샷에서 바로 응답한다.
+// 다른 인스턴스에서의 변경은 주기적 재로딩으로 반영한다.
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrganizationService {
+
+    private final OrganizationRepository organizationRepository;
+    private final OrganizationClosureRepository closureRepository;
+    private final EmployeeAssignmentRepository employeeAssignmentRepository;
+
+    private final AtomicReference<OrganizationTreeSnapshot> snapshot =
+            new AtomicReference<>(OrganizationTreeSnapshot.empty());
+
+    // 기동 시 클로저 테이블이 조직 테이블과 어긋나 있으면 parent_id 기준으로 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        long organizationCount = organizationRepository.count();
+        long selfRows = closureRepository.countByDepth(0);
+        if (organizationCount != selfRows) {
+            log.info("[Organization] 클로저 테이블 재구성 - 조직 수: {}, 자기참조 행 수: {}", organizationCount, selfRows);
+            closureRepository.deleteAllRows();
+            int rows = closureRepository.rebuildFromParents();
+            log.info("[Organization] 클로저 테이블 재구성 완료 - {}행", rows);
+        }
+        refreshSnapshotAfterCommit();
+    }
+
+    public List<OrganizationTreeNode> getTree() {
+        return snapshot.get().getRoots();
+    }
+
+    public OrganizationTreeNode getSubtree(Long organizationId) {
+        return snapshot.get().find(organizationId)
+                .orElseThrow(() -> notFound(organizationId));
+    }
+
+    // 스냅샷 기준 존재 여부 (대량 등록 검증 등 반복 호출용)
+    // 다른 인스턴스에서 방금 만든 조직은 스냅샷에 없을 수 있어 DB 로 한 번 더 확인
+    public boolean exists(Long organizationId) {
+        return snapshot.get().contains(organizationId) || organizationRepository.existsById(organizationId);
+    }
+
+    // 하위 조직 전체 소속 인원 - 클로저 조인 한 번으로 조회
+    @Transactional(readOnly = true)
+    public List<OrganizationMemberDto> getMembers(Long organizationId) {
+        ensureExists(organizationId);
+        return employeeAssignmentRepository.findMembersInSubtree(organizationId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getMemberIds(Long organizationId) {
+        ensureExists(organizationId);
+        return employeeAssignmentRepository.findMemberIdsInSubtree(organizationId);
+    }
+
+    @Transactional
+    public OrganizationTreeNode createOrganization(OrganizationRequest request) {
+        if (organizationRepository.existsByName(request.getName())) {
+            throw new BusinessException("이미 존재하는 조직명입니다: " + request.getName(), "DUPLICATE_ORGANIZATION");
+        }
+
+        Organization organization = new Organization();
+        organization.setName(request.getName());
+        if (request.getParentId() != null) {
+            organization.setParent(findOrganization(request.getParentId()));
+        }
+        organization = organizationRepository.saveAndFlush(organization);
+
+        Long organizationId = organization.getOrganizationId();
+        closureRepository.insertSelf(organizationId);
+        if (request.getParentId() != null) {
+            closureRepository.insertUnderParent(organizationId, request.getParentId());
+        }
+        refreshSnapshotAfterCommit();
+
+        log.info("[Organization] 조직 생성 - id: {}, name: {}, parentId: {}", organizationId, organization.getName(), request.getParentId());
+        return new OrganizationTreeNode(organizationId, organization.getName(), request.getParentId(), 0, List.of());
+    }
+
+    // 하위 트리 전체를 새 상위 조직 아래로 이동 (parentId 가 null 이면 최상위로)
+    @Transactional
+    public void moveOrganization(Long organizationId, Long newParentId) {
+        Organization organization = findOrganization(organizationId);
+        Organization newParent = null;
+        if (newParentId != null) {
+            newParent = findOrganization(newParentId);
+            if (closureRepository.existsByAncestorIdAndDescendantId(organizationId, newParentId)) {
+                throw new BusinessException("자기 자신이나 하위 조직 아래로 이동할 수 없습니다.", "INVALID_ORGANIZATION_MOVE");
+            }
+        }
+
+        organization.setParent(newParent);
+        organizationRepository.flush();
+
+        closureRepository.detachSubtree(organizationId);
+        if (newParentId != null) {
+            closureRepository.attachSubtree(organizationId, newParentId);
+        }
+        refreshSnapshotAfterCommit();
+
+        log.info("[Organization] 조직 이동 - id: {}, newParentId: {}", organizationId, newParentId);
+    }
+
+    // 하위 조직이 없는 조직만 삭제 가능
+    @Transactional
+    public void deleteOrganization(Long organizationId) {
+        Organization organization = findOrganization(organizationId);
+        if (organizationRepository.existsByParent_OrganizationId(organizationId)) {
+            throw new BusinessException("하위 조직이 있는 조직은 삭제할 수 없습니다.", "ORGANIZATION_HAS_CHILDREN");
+        }
+
+        closureRepository.deleteNode(organizationId);
+        organizationRepository.delete(organization);
+        refreshSnapshotAfterCommit();
+
+        log.info("[Organization] 조직 삭제 - id: {}", organizationId);
+    }
+
+    private Organization findOrganization(Long organizationId) {
+        return organizationRepository.findById(organizationId)
+                .orElseThrow(() -> notFound(organizationId));
+    }
+
+    private void ensureExists(Long organizationId) {
+        if (!snapshot.get().contains(organizationId) && !organizationRepository.existsById(organizationId)) {
+            throw notFound(organizationId);
+        }
+    }
+
+    private OrganizationNotFoundException notFound(Long organizationId) {
+        return new OrganizationNotFoundException("조직을 찾을 수 없습니다: " + organizationId);
+    }
+
+    private void refreshSnapshotAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshSnapshot();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshSnapshot();
+            }
+        });
+    }
+
+    // 다른 인스턴스의 변경 반영용 주기 재로딩
+    @Scheduled(fixedDelayString = "${organization.tree-cache.refresh-interval-ms:600000}",
+            initialDelayString = "${organization.tree-cache.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        refreshSnapshot();
+    }
+
+    // 동기화 - 커밋 순서와 다르게 실행된 afterCommit 갱신이 더 오래된 스냅샷을 덮어쓰지 않도록,
+    // 읽기와 교체를 한 번에 하나씩만 수행한다 (나중에 잠금을 얻은 쪽이 항상 더 최신 상태를 읽음)
+    private synchronized void refreshSnapshot() {
+        OrganizationTreeSnapshot next = OrganizationTreeSnapshot.of(organizationRepository.findAllTreeRows());
+        snapshot.set(next);
+        log.debug("[Organization] 트리 스냅샷 갱신 - 조직 수: {}", next.size());
+    }
+}
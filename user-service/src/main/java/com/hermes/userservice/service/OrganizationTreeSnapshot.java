@@ -0,0 +1,85 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.OrganizationTreeNode;
+import com.hermes.userservice.dto.OrganizationTreeRow;
+
+import java.util.*;
+
+// 조직 트리의 불변 메모리 스냅샷 - 조직 변경이 커밋될 때마다 통째로 새로 만들어 교체한다.
+// 읽기 측은 잠금 없이 현재 스냅샷 참조만 사용
+
+public final class OrganizationTreeSnapshot {
+
+    private static final OrganizationTreeSnapshot EMPTY = new OrganizationTreeSnapshot(Map.of(), List.of());
+
+    private final Map<Long, OrganizationTreeNode> nodes;
+    private final List<OrganizationTreeNode> roots;
+
+    private OrganizationTreeSnapshot(Map<Long, OrganizationTreeNode> nodes, List<OrganizationTreeNode> roots) {
+        this.nodes = nodes;
+        this.roots = roots;
+    }
+
+    public static OrganizationTreeSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static OrganizationTreeSnapshot of(List<OrganizationTreeRow> rows) {
+        Set<Long> ids = new HashSet<>();
+        rows.forEach(row -> ids.add(row.getOrganizationId()));
+
+        Map<Long, List<OrganizationTreeRow>> childrenByParent = new HashMap<>();
+        List<OrganizationTreeRow> rootRows = new ArrayList<>();
+        for (OrganizationTreeRow row : rows) {
+            if (row.getParentId() == null || !ids.contains(row.getParentId())) {
+                rootRows.add(row);
+            } else {
+                childrenByParent.computeIfAbsent(row.getParentId(), key -> new ArrayList<>()).add(row);
+            }
+        }
+
+        Map<Long, OrganizationTreeNode> nodes = new HashMap<>(rows.size() * 2);
+        List<OrganizationTreeNode> roots = new ArrayList<>(rootRows.size());
+        for (OrganizationTreeRow row : sortByName(rootRows)) {
+            roots.add(build(row, 0, childrenByParent, nodes));
+        }
+        return new OrganizationTreeSnapshot(Collections.unmodifiableMap(nodes), List.copyOf(roots));
+    }
+
+    private static OrganizationTreeNode build(OrganizationTreeRow row, int depth,
+                                              Map<Long, List<OrganizationTreeRow>> childrenByParent,
+                                              Map<Long, OrganizationTreeNode> nodes) {
+        List<OrganizationTreeRow> childRows = childrenByParent.getOrDefault(row.getOrganizationId(), List.of());
+        List<OrganizationTreeNode> children = new ArrayList<>(childRows.size());
+        for (OrganizationTreeRow child : sortByName(childRows)) {
+            children.add(build(child, depth + 1, childrenByParent, nodes));
+        }
+
+        OrganizationTreeNode node = new OrganizationTreeNode(
+                row.getOrganizationId(), row.getName(), row.getParentId(), depth, List.copyOf(children));
+        nodes.put(node.getOrganizationId(), node);
+        return node;
+    }
+
+    private static List<OrganizationTreeRow> sortByName(List<OrganizationTreeRow> rows) {
+        List<OrganizationTreeRow> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(OrganizationTreeRow::getName));
+        return sorted;
+    }
+
+    public List<OrganizationTreeNode> getRoots() {
+        return roots;
+    }
+
+    public Optional<OrganizationTreeNode> find(Long organizationId) {
+        return Optional.ofNullable(nodes.get(organizationId));
+    }
+
+    public boolean contains(Long organizationId) {
+        return nodes.containsKey(organizationId);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+}
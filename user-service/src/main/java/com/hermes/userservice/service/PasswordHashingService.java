@@ -0,0 +1,177 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// 비밀번호 해시 연산(BCrypt)을 요청 스레드가 아닌 전용 풀에서 수행하는 서비스
+// 풀/큐가 가득 차면 대기하지 않고 ServiceOverloadedException(503)으로 즉시 거절한다.
+
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final String OVERLOADED_MESSAGE = "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashingExecutor;
+    private final ThreadPoolTaskExecutor bulkPasswordHashingExecutor;
+
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter rehashSkippedCounter;
+
+    @Value("${password.hashing.timeout-ms:5000}")
+    private long timeoutMs;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+                                  @Qualifier("bulkPasswordHashingExecutor") ThreadPoolTaskExecutor bulkPasswordHashingExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.bulkPasswordHashingExecutor = bulkPasswordHashingExecutor;
+
+        this.matchesTimer = Timer.builder("password.hashing.latency")
+                .description("비밀번호 해시 연산 소요 시간")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hashing.latency")
+                .description("비밀번호 해시 연산 소요 시간")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+                .description("해시 작업이 큐에서 대기한 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("용량 초과로 거절된 해시 작업 수")
+                .register(meterRegistry);
+        this.rehashSkippedCounter = Counter.builder("password.hashing.rehash.skipped")
+                .description("풀이 바빠 다음 로그인으로 미뤄진 재해시 작업 수")
+                .register(meterRegistry);
+
+        Gauge.builder("password.hashing.queue.depth", passwordHashingExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("대기 중인 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", passwordHashingExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("실행 중인 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    // 대량 등록용 일괄 해시 - 로그인용 풀이 아닌 별도 풀에서 병렬 처리 (입력 순서대로 반환)
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            futures.add(bulkPasswordHashingExecutor.submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword))));
+        }
+
+        List<String> encoded = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) {
+                encoded.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 일괄 해시가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("비밀번호 일괄 해시 중 오류가 발생했습니다.", e.getCause());
+        }
+        return encoded;
+    }
+
+    // 저장된 해시가 현재 알고리즘/비용보다 약하면 true (접두사 없는 기존 해시, 평문 포함)
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 재해시는 응답을 기다리게 하지 않는다. 풀이 절반 이상 차 있으면 로그인 처리를 우선하고 다음 로그인으로 미룬다.
+    public void encodeInBackground(String rawPassword, Consumer<String> onEncoded) {
+        if (passwordHashingExecutor.getThreadPoolExecutor().getQueue().remainingCapacity()
+                < passwordHashingExecutor.getThreadPoolExecutor().getQueue().size()) {
+            rehashSkippedCounter.increment();
+            return;
+        }
+
+        try {
+            passwordHashingExecutor.execute(() -> {
+                try {
+                    onEncoded.accept(encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+                } catch (Exception e) {
+                    log.warn(" [PasswordHashingService] 백그라운드 재해시 실패: {}", e.getMessage(), e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rehashSkippedCounter.increment();
+        }
+    }
+
+    private <T> T execute(Supplier<T> task, Timer timer) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = passwordHashingExecutor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn(" [PasswordHashingService] 해시 작업 거절 - 대기 큐 포화 (queue={})",
+                    passwordHashingExecutor.getThreadPoolExecutor().getQueue().size());
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, e);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn(" [PasswordHashingService] 해시 작업 시간 초과 ({}ms)", timeoutMs);
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리 중 오류가 발생했습니다.", cause);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.ReferenceItem;
+import com.hermes.userservice.entity.EmploymentType;
+import com.hermes.userservice.entity.Job;
+import com.hermes.userservice.entity.Position;
+import com.hermes.userservice.entity.Rank;
+import com.hermes.userservice.repository.EmploymentTypeRepository;
+import com.hermes.userservice.repository.JobRepository;
+import com.hermes.userservice.repository.PositionRepository;
+import com.hermes.userservice.repository.RankRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 직급/직책/직무/고용형태 메모리 캐시
+// 몇 십 행 수준의 거의 변하지 않는 테이블이라 전부 읽어 불변 스냅샷으로 보관하고, 사용자 조회 시 조인 대신 FK id 로 찾는다.
+// 변경은 커밋 후 즉시 재로딩하며, 다른 인스턴스에서 바뀐 내용은 주기적 재로딩으로 반영된다.
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final RankRepository rankRepository;
+    private final PositionRepository positionRepository;
+    private final JobRepository jobRepository;
+    private final EmploymentTypeRepository employmentTypeRepository;
+
+    private final AtomicReference<ReferenceDataSnapshot> snapshot =
+            new AtomicReference<>(ReferenceDataSnapshot.empty());
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user.reference-cache.refresh-interval-ms:600000}",
+            initialDelayString = "${user.reference-cache.refresh-interval-ms:600000}")
+    public synchronized void reload() {
+        ReferenceDataSnapshot previous = snapshot.get();
+        ReferenceDataSnapshot next = ReferenceDataSnapshot.next(previous,
+                rankRepository.findAll().stream().map(ReferenceDataCache::toItem).toList(),
+                positionRepository.findAll().stream().map(ReferenceDataCache::toItem).toList(),
+                jobRepository.findAll().stream().map(ReferenceDataCache::toItem).toList(),
+                employmentTypeRepository.findAll().stream().map(ReferenceDataCache::toItem).toList());
+        if (next == previous) {
+            return;
+        }
+
+        snapshot.set(next);
+        log.info("[ReferenceDataCache] 참조 데이터 갱신 - version: {}, 직급: {}, 직책: {}, 직무: {}, 고용형태: {}",
+                next.getVersion(), next.getRanks().size(), next.getPositions().size(),
+                next.getJobs().size(), next.getEmploymentTypes().size());
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 재로딩
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    public ReferenceDataSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    // 연관관계 프록시에서 id 만 꺼내 조회 (프록시 초기화 없음)
+    public ReferenceItem rank(Rank rank) {
+        return rank != null ? snapshot.get().rank(rank.getId()) : null;
+    }
+
+    public ReferenceItem position(Position position) {
+        return position != null ? snapshot.get().position(position.getId()) : null;
+    }
+
+    public ReferenceItem job(Job job) {
+        return job != null ? snapshot.get().job(job.getId()) : null;
+    }
+
+    public ReferenceItem employmentType(EmploymentType employmentType) {
+        return employmentType != null ? snapshot.get().employmentType(employmentType.getId()) : null;
+    }
+
+    private static ReferenceItem toItem(Rank rank) {
+        return new ReferenceItem(rank.getId(), rank.getName(), rank.getSortOrder());
+    }
+
+    private static ReferenceItem toItem(Position position) {
+        return new ReferenceItem(position.getId(), position.getName(), position.getSortOrder());
+    }
+
+    private static ReferenceItem toItem(Job job) {
+        return new ReferenceItem(job.getId(), job.getName(), job.getSortOrder());
+    }
+
+    private static ReferenceItem toItem(EmploymentType employmentType) {
+        return new ReferenceItem(employmentType.getId(), employmentType.getName(), employmentType.getSortOrder());
+    }
+}
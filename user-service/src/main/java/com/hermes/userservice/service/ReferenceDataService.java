@@ -0,0 +1,118 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.ReferenceDataRequest;
+import com.hermes.userservice.dto.ReferenceItem;
+import com.hermes.userservice.dto.ReferenceType;
+import com.hermes.userservice.entity.EmploymentType;
+import com.hermes.userservice.entity.Job;
+import com.hermes.userservice.entity.Position;
+import com.hermes.userservice.entity.Rank;
+import com.hermes.userservice.exception.BusinessException;
+import com.hermes.userservice.repository.EmploymentTypeRepository;
+import com.hermes.userservice.repository.JobRepository;
+import com.hermes.userservice.repository.PositionRepository;
+import com.hermes.userservice.repository.RankRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 참조 데이터 변경 - 커밋 후 ReferenceDataCache 스냅샷을 다시 만든다
+
+@Slf4j
+@Service
+public class ReferenceDataService {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final Map<ReferenceType, Handler<?>> handlers = new EnumMap<>(ReferenceType.class);
+
+    public ReferenceDataService(ReferenceDataCache referenceDataCache,
+                                RankRepository rankRepository,
+                                PositionRepository positionRepository,
+                                JobRepository jobRepository,
+                                EmploymentTypeRepository employmentTypeRepository) {
+        this.referenceDataCache = referenceDataCache;
+        handlers.put(ReferenceType.RANK, new Handler<>(rankRepository, Rank::new,
+                (rank, request) -> { rank.setName(request.getName()); rank.setSortOrder(request.getSortOrder()); },
+                rank -> new ReferenceItem(rank.getId(), rank.getName(), rank.getSortOrder())));
+        handlers.put(ReferenceType.POSITION, new Handler<>(positionRepository, Position::new,
+                (position, request) -> { position.setName(request.getName()); position.setSortOrder(request.getSortOrder()); },
+                position -> new ReferenceItem(position.getId(), position.getName(), position.getSortOrder())));
+        handlers.put(ReferenceType.JOB, new Handler<>(jobRepository, Job::new,
+                (job, request) -> { job.setName(request.getName()); job.setSortOrder(request.getSortOrder()); },
+                job -> new ReferenceItem(job.getId(), job.getName(), job.getSortOrder())));
+        handlers.put(ReferenceType.EMPLOYMENT_TYPE, new Handler<>(employmentTypeRepository, EmploymentType::new,
+                (type, request) -> { type.setName(request.getName()); type.setSortOrder(request.getSortOrder()); },
+                type -> new ReferenceItem(type.getId(), type.getName(), type.getSortOrder())));
+    }
+
+    @Transactional
+    public ReferenceItem create(ReferenceType type, ReferenceDataRequest request) {
+        ReferenceItem item = handlers.get(type).create(request);
+        referenceDataCache.reloadAfterCommit();
+        log.info("[ReferenceData] 생성 - type: {}, id: {}, name: {}", type, item.getId(), item.getName());
+        return item;
+    }
+
+    @Transactional
+    public ReferenceItem update(ReferenceType type, Long id, ReferenceDataRequest request) {
+        ReferenceItem item = handlers.get(type).update(id, request);
+        referenceDataCache.reloadAfterCommit();
+        log.info("[ReferenceData] 수정 - type: {}, id: {}, name: {}", type, id, item.getName());
+        return item;
+    }
+
+    @Transactional
+    public void delete(ReferenceType type, Long id) {
+        handlers.get(type).delete(id);
+        referenceDataCache.reloadAfterCommit();
+        log.info("[ReferenceData] 삭제 - type: {}, id: {}", type, id);
+    }
+
+    private record Handler<T>(JpaRepository<T, Long> repository,
+                              Supplier<T> factory,
+                              BiConsumer<T, ReferenceDataRequest> apply,
+                              Function<T, ReferenceItem> mapper) {
+
+        ReferenceItem create(ReferenceDataRequest request) {
+            T entity = factory.get();
+            apply.accept(entity, request);
+            return mapper.apply(saveAndFlush(entity));
+        }
+
+        ReferenceItem update(Long id, ReferenceDataRequest request) {
+            T entity = find(id);
+            apply.accept(entity, request);
+            return mapper.apply(saveAndFlush(entity));
+        }
+
+        void delete(Long id) {
+            repository.delete(find(id));
+            try {
+                repository.flush();
+            } catch (DataIntegrityViolationException e) {
+                throw new BusinessException("사용 중인 항목은 삭제할 수 없습니다: " + id, "REFERENCE_DATA_IN_USE", e);
+            }
+        }
+
+        private T find(Long id) {
+            return repository.findById(id)
+                    .orElseThrow(() -> new BusinessException("항목을 찾을 수 없습니다: " + id, "REFERENCE_DATA_NOT_FOUND"));
+        }
+
+        private T saveAndFlush(T entity) {
+            try {
+                return repository.saveAndFlush(entity);
+            } catch (DataIntegrityViolationException e) {
+                throw new BusinessException("이미 존재하는 이름입니다.", "DUPLICATE_REFERENCE_DATA", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.ReferenceItem;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 참조 데이터 전체의 불변 스냅샷 - 다시 읽을 때마다 새로 만들어 통째로 교체한다.
+// version/ETag 는 contentHash 에서만 만들어 어느 인스턴스에서 읽어도 내용이 같으면 같은 값이 된다.
+
+public final class ReferenceDataSnapshot {
+
+    private static final Comparator<ReferenceItem> ORDER = Comparator
+            .comparing(ReferenceItem::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ReferenceItem::getId);
+
+    private static final ReferenceDataSnapshot EMPTY =
+            new ReferenceDataSnapshot(List.of(), List.of(), List.of(), List.of());
+
+    private final String contentHash;
+    private final List<ReferenceItem> ranks;
+    private final List<ReferenceItem> positions;
+    private final List<ReferenceItem> jobs;
+    private final List<ReferenceItem> employmentTypes;
+    private final Map<Long, ReferenceItem> rankById;
+    private final Map<Long, ReferenceItem> positionById;
+    private final Map<Long, ReferenceItem> jobById;
+    private final Map<Long, ReferenceItem> employmentTypeById;
+
+    private ReferenceDataSnapshot(List<ReferenceItem> ranks, List<ReferenceItem> positions,
+                                  List<ReferenceItem> jobs, List<ReferenceItem> employmentTypes) {
+        this.ranks = sorted(ranks);
+        this.positions = sorted(positions);
+        this.jobs = sorted(jobs);
+        this.employmentTypes = sorted(employmentTypes);
+        this.rankById = index(this.ranks);
+        this.positionById = index(this.positions);
+        this.jobById = index(this.jobs);
+        this.employmentTypeById = index(this.employmentTypes);
+        this.contentHash = hash(this.ranks, this.positions, this.jobs, this.employmentTypes);
+    }
+
+    public static ReferenceDataSnapshot empty() {
+        return EMPTY;
+    }
+
+    // 이전 스냅샷과 내용이 같으면 이전 스냅샷을 그대로 돌려준다
+    public static ReferenceDataSnapshot next(ReferenceDataSnapshot previous, List<ReferenceItem> ranks,
+                                             List<ReferenceItem> positions, List<ReferenceItem> jobs,
+                                             List<ReferenceItem> employmentTypes) {
+        ReferenceDataSnapshot candidate =
+                new ReferenceDataSnapshot(ranks, positions, jobs, employmentTypes);
+        if (previous != EMPTY && candidate.contentHash.equals(previous.contentHash)) {
+            return previous;
+        }
+        return candidate;
+    }
+
+    // 내용 해시 앞 16자리 - 인스턴스/재기동과 무관하게 내용이 같으면 같다
+    public String getVersion() {
+        return contentHash.substring(0, 16);
+    }
+
+    public String getETag() {
+        return "\"" + getVersion() + "\"";
+    }
+
+    public List<ReferenceItem> getRanks() {
+        return ranks;
+    }
+
+    public List<ReferenceItem> getPositions() {
+        return positions;
+    }
+
+    public List<ReferenceItem> getJobs() {
+        return jobs;
+    }
+
+    public List<ReferenceItem> getEmploymentTypes() {
+        return employmentTypes;
+    }
+
+    public ReferenceItem rank(Long id) {
+        return id != null ? rankById.get(id) : null;
+    }
+
+    public ReferenceItem position(Long id) {
+        return id != null ? positionById.get(id) : null;
+    }
+
+    public ReferenceItem job(Long id) {
+        return id != null ? jobById.get(id) : null;
+    }
+
+    public ReferenceItem employmentType(Long id) {
+        return id != null ? employmentTypeById.get(id) : null;
+    }
+
+    private static List<ReferenceItem> sorted(List<ReferenceItem> items) {
+        return items.stream().sorted(ORDER).toList();
+    }
+
+    private static Map<Long, ReferenceItem> index(List<ReferenceItem> items) {
+        return items.stream().collect(Collectors.toUnmodifiableMap(ReferenceItem::getId, Function.identity()));
+    }
+
+    @SafeVarargs
+    private static String hash(List<ReferenceItem>... groups) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (List<ReferenceItem> group : groups) {
+                for (ReferenceItem item : group) {
+                    digest.update((item.getId() + "\u0001" + item.getName() + "\u0001" + item.getSortOrder() + "\u0002")
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) 0x03);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
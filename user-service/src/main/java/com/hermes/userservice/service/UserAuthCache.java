@@ -0,0 +1,66 @@
+package com.hermes.userservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.userservice.dto.UserAuthInfo;
+import com.hermes.userservice.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 이메일 → 로그인용 projection 캐시
+// 변경은 트랜잭션 커밋 이후에 반영하여, 롤백된 값이나 커밋 전 옛 값이 캐시에 남지 않도록 한다.
+
+@Slf4j
+@Component
+public class UserAuthCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserAuthInfo> cache;
+
+    public UserAuthCache(UserRepository userRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${user.auth-cache.max-size:10000}") long maxSize,
+                         @Value("${user.auth-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.auth");
+    }
+
+    // 존재하지 않는 이메일은 캐시하지 않음
+    public Optional<UserAuthInfo> findByEmail(String email) {
+        return Optional.ofNullable(cache.get(email, key -> userRepository.findAuthInfoByEmail(key).orElse(null)));
+    }
+
+    public void put(UserAuthInfo authInfo) {
+        afterCommit(() -> cache.put(authInfo.getEmail(), authInfo));
+    }
+
+    public void evict(String email) {
+        afterCommit(() -> cache.invalidate(email));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
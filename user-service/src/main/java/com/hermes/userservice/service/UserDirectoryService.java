@@ -0,0 +1,94 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.UserDirectoryEntry;
+import com.hermes.userservice.dto.UserDirectoryPage;
+import com.hermes.userservice.dto.UserDirectorySearch;
+import com.hermes.userservice.repository.UserDirectoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDirectoryService {
+
+    private static final char CURSOR_SEPARATOR = '\n';
+
+    private final UserDirectoryRepository userDirectoryRepository;
+
+    @Value("${user.directory.default-size:50}")
+    private int defaultSize;
+
+    @Value("${user.directory.max-size:200}")
+    private int maxSize;
+
+    @Transactional(readOnly = true)
+    public UserDirectoryPage search(UserDirectorySearch search) {
+        int size = resolveSize(search.getSize());
+
+        String cursorName = null;
+        Long cursorId = null;
+        if (search.getCursor() != null && !search.getCursor().isBlank()) {
+            String decoded = decodeCursor(search.getCursor());
+            int separator = decoded.lastIndexOf(CURSOR_SEPARATOR);
+            cursorName = decoded.substring(0, separator);
+            cursorId = parseCursorId(decoded.substring(separator + 1));
+        }
+
+        List<UserDirectoryEntry> rows = userDirectoryRepository.findPage(
+                search.getOrganizationId(), search.getRankId(), search.getPositionId(), cursorName, cursorId, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<UserDirectoryEntry> entries = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encodeCursor(entries.get(entries.size() - 1)) : null;
+
+        Long total = search.isIncludeTotal()
+                ? userDirectoryRepository.count(search.getOrganizationId(), search.getRankId(), search.getPositionId())
+                : null;
+
+        return new UserDirectoryPage(List.copyOf(entries), size, hasNext, nextCursor, total);
+    }
+
+    private int resolveSize(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    private static String encodeCursor(UserDirectoryEntry last) {
+        String raw = last.getName() + CURSOR_SEPARATOR + last.getUserId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+        if (decoded.lastIndexOf(CURSOR_SEPARATOR) < 0) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return decoded;
+    }
+
+    private static Long parseCursorId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
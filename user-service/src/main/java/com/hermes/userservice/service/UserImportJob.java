@@ -0,0 +1,87 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.UserImportError;
+import com.hermes.userservice.dto.UserImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 대량 등록 작업 하나의 진행 상태 (작업 스레드가 갱신, 조회 API 가 읽음)
+
+class UserImportJob {
+
+    enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final int maxErrors;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<UserImportError> errors = new ArrayList<>();
+    private volatile State state = State.QUEUED;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    UserImportJob(String id, int maxErrors) {
+        this.id = id;
+        this.maxErrors = maxErrors;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        state = State.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        finishedAt = LocalDateTime.now();
+        state = State.FAILED;
+    }
+
+    void addProcessed(long count) {
+        processed.addAndGet(count);
+    }
+
+    void addImported(long count) {
+        imported.addAndGet(count);
+    }
+
+    void addError(long line, String email, String message) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new UserImportError(line, email, message));
+            }
+        }
+    }
+
+    UserImportStatus toStatus() {
+        List<UserImportError> errorsCopy;
+        synchronized (errors) {
+            errorsCopy = List.copyOf(errors);
+        }
+        return UserImportStatus.builder()
+                .jobId(id)
+                .state(state.name())
+                .processed(processed.get())
+                .imported(imported.get())
+                .failed(failed.get())
+                .errors(errorsCopy.isEmpty() ? null : errorsCopy)
+                .message(message)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.hermes.userservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.userservice.dto.UserImportRow;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 대량 등록 파일을 한 행씩 읽는 리더 (전체를 메모리에 올리지 않음)
+// CSV: 첫 줄은 헤더, 따옴표("") 이스케이프 지원, 필드 안의 줄바꿈은 지원하지 않음
+// NDJSON: 한 줄에 JSON 객체 하나
+
+class UserImportReader implements Closeable {
+
+    enum Format { CSV, NDJSON }
+
+    record ParsedRow(long line, UserImportRow row, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> header;
+    private long line;
+
+    UserImportReader(Path path, Format format, ObjectMapper objectMapper) throws IOException {
+        this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // 파일 끝이면 null
+    ParsedRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+            if (line == 1 && !text.isEmpty() && text.charAt(0) == '\uFEFF') {
+                text = text.substring(1);  // UTF-8 BOM
+            }
+        } while (text.isBlank());
+
+        if (format == Format.NDJSON) {
+            try {
+                return new ParsedRow(line, objectMapper.readValue(text, UserImportRow.class), null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRow(line, null, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+
+        if (header == null) {
+            header = parseHeader(splitCsv(text));
+            return next();
+        }
+        try {
+            return new ParsedRow(line, toRow(splitCsv(text)), null);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new ParsedRow(line, null, "값 형식 오류: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static Map<String, Integer> parseHeader(List<String> columns) {
+        Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            result.put(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        return result;
+    }
+
+    private UserImportRow toRow(List<String> values) {
+        UserImportRow row = new UserImportRow();
+        row.setName(text(values, "name"));
+        row.setEmail(text(values, "email"));
+        row.setPassword(text(values, "password"));
+        row.setPhone(text(values, "phone"));
+        row.setAddress(text(values, "address"));
+        String joinDate = text(values, "joindate");
+        row.setJoinDate(joinDate != null ? LocalDate.parse(joinDate) : null);
+        row.setEmploymentTypeId(number(values, "employmenttypeid"));
+        row.setRankId(number(values, "rankid"));
+        row.setPositionId(number(values, "positionid"));
+        row.setJobId(number(values, "jobid"));
+        row.setRole(text(values, "role"));
+        row.setOrganizationId(number(values, "organizationid"));
+        row.setIsLeader(bool(values, "isleader"));
+        return row;
+    }
+
+    private String text(List<String> values, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Long number(List<String> values, String column) {
+        String value = text(values, column);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private Boolean bool(List<String> values, String column) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        if ("true".equalsIgnoreCase(value) || "y".equalsIgnoreCase(value) || "1".equals(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value) || "n".equalsIgnoreCase(value) || "0".equals(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException(column + "=" + value);
+    }
+
+    static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,296 @@
+package com.hermes.userservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.userservice.dto.UserImportRow;
+import com.hermes.userservice.dto.UserImportStatus;
+import com.hermes.userservice.exception.BusinessException;
+import com.hermes.userservice.exception.ServiceOverloadedException;
+import com.hermes.userservice.repository.UserBulkRepository;
+import com.hermes.userservice.repository.UserBulkRepository.NewUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// 직원 대량 등록
+// 업로드 본문은 임시 파일로 흘려 보낸 뒤 비동기로 처리하고, 진행 상황은 작업 id 로 조회한다.
+// 청크 단위로 검증 → 비밀번호 병렬 해시 → id 일괄 할당 + JDBC batch insert 를 한 트랜잭션으로 수행한다.
+
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_COLUMN_LENGTH = 100;
+
+    private final ObjectMapper objectMapper;
+    private final UserBulkRepository userBulkRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final ReferenceDataCache referenceDataCache;
+    private final OrganizationService organizationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor userImportExecutor;
+    private final Cache<String, UserImportJob> jobs;
+    private final Counter importedCounter;
+
+    @Value("${user.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${user.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${user.import.max-bytes:52428800}")
+    private long maxBytes;
+
+    @Value("${user.import.max-errors:100}")
+    private int maxErrors;
+
+    public UserImportService(ObjectMapper objectMapper,
+                             UserBulkRepository userBulkRepository,
+                             PasswordHashingService passwordHashingService,
+                             ReferenceDataCache referenceDataCache,
+                             OrganizationService organizationService,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier("userImportExecutor") ThreadPoolTaskExecutor userImportExecutor,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.userBulkRepository = userBulkRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.referenceDataCache = referenceDataCache;
+        this.organizationService = organizationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userImportExecutor = userImportExecutor;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+        this.importedCounter = Counter.builder("user.import.imported")
+                .description("대량 등록으로 생성된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    public UserImportStatus submit(InputStream body, String contentType) {
+        UserImportReader.Format format = resolveFormat(contentType);
+        Path file = spool(body);
+
+        UserImportJob job = new UserImportJob(UUID.randomUUID().toString(), maxErrors);
+        jobs.put(job.getId(), job);
+        try {
+            userImportExecutor.execute(() -> run(job, file, format));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.getId());
+            deleteQuietly(file);
+            throw new ServiceOverloadedException("진행 중인 등록 작업이 많습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+
+        log.info("[UserImport] 등록 작업 접수 - jobId: {}, format: {}", job.getId(), format);
+        return job.toStatus();
+    }
+
+    public Optional<UserImportStatus> getStatus(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(UserImportJob::toStatus);
+    }
+
+    private void run(UserImportJob job, Path file, UserImportReader.Format format) {
+        job.start();
+        long startedAt = System.nanoTime();
+        Set<String> seenEmails = new HashSet<>();
+
+        try (UserImportReader reader = new UserImportReader(file, format, objectMapper)) {
+            List<UserImportReader.ParsedRow> chunk = new ArrayList<>(chunkSize);
+            UserImportReader.ParsedRow parsed;
+            while ((parsed = reader.next()) != null) {
+                chunk.add(parsed);
+                if (chunk.size() >= chunkSize) {
+                    processChunk(job, chunk, seenEmails);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk, seenEmails);
+            }
+            job.complete();
+
+            UserImportStatus status = job.toStatus();
+            log.info("[UserImport] 등록 작업 완료 - jobId: {}, 처리: {}, 등록: {}, 실패: {}, {}ms",
+                    job.getId(), status.getProcessed(), status.getImported(), status.getFailed(),
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            log.error("[UserImport] 등록 작업 실패 - jobId: {}", job.getId(), e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void processChunk(UserImportJob job, List<UserImportReader.ParsedRow> chunk, Set<String> seenEmails) {
+        job.addProcessed(chunk.size());
+
+        // 1. 행 단위 검증 (파일 내 중복 이메일 포함)
+        List<UserImportReader.ParsedRow> candidates = new ArrayList<>(chunk.size());
+        for (UserImportReader.ParsedRow parsed : chunk) {
+            String error = parsed.error() != null ? parsed.error() : validate(parsed.row());
+            if (error == null && !seenEmails.add(parsed.row().getEmail())) {
+                error = "파일 안에서 중복된 이메일입니다.";
+            }
+            if (error != null) {
+                job.addError(parsed.line(), parsed.row() != null ? parsed.row().getEmail() : null, error);
+            } else {
+                candidates.add(parsed);
+            }
+        }
+
+        // 2. 이미 등록된 이메일 제외 (청크당 쿼리 1회)
+        Set<String> existing = userBulkRepository.findExistingEmails(
+                candidates.stream().map(parsed -> parsed.row().getEmail()).toList());
+        List<UserImportReader.ParsedRow> accepted = new ArrayList<>(candidates.size());
+        for (UserImportReader.ParsedRow parsed : candidates) {
+            if (existing.contains(parsed.row().getEmail())) {
+                job.addError(parsed.line(), parsed.row().getEmail(), "이미 등록된 이메일입니다.");
+            } else {
+                accepted.add(parsed);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 3. 비밀번호 병렬 해시 (트랜잭션 밖에서 수행하여 커넥션 점유 시간을 줄임)
+        List<String> hashes = passwordHashingService.encodeAll(
+                accepted.stream().map(parsed -> parsed.row().getPassword()).toList());
+
+        // 4. id 일괄 할당 + batch insert
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = userBulkRepository.allocateUserIds(accepted.size());
+                List<NewUser> users = new ArrayList<>(accepted.size());
+                for (int i = 0; i < accepted.size(); i++) {
+                    users.add(new NewUser(ids.get(i), accepted.get(i).row(), hashes.get(i), true));
+                }
+                userBulkRepository.insertUsers(users, batchSize);
+                userBulkRepository.insertPrimaryAssignments(users, batchSize);
+            });
+        } catch (DataAccessException e) {
+            log.warn("[UserImport] 청크 저장 실패 - jobId: {}, {}행: {}", job.getId(), accepted.size(), e.getMessage());
+            for (UserImportReader.ParsedRow parsed : accepted) {
+                job.addError(parsed.line(), parsed.row().getEmail(), "저장 중 오류가 발생했습니다.");
+            }
+            return;
+        }
+
+        job.addImported(accepted.size());
+        importedCounter.increment(accepted.size());
+    }
+
+    private String validate(UserImportRow row) {
+        if (isBlank(row.getName()) || isBlank(row.getEmail()) || isBlank(row.getPassword())
+                || isBlank(row.getPhone()) || isBlank(row.getAddress())) {
+            return "name, email, password, phone, address 는 필수입니다.";
+        }
+        if (!EMAIL_PATTERN.matcher(row.getEmail()).matches()) {
+            return "이메일 형식이 올바르지 않습니다.";
+        }
+        if (tooLong(row.getName()) || tooLong(row.getEmail()) || tooLong(row.getPhone())
+                || tooLong(row.getAddress()) || tooLong(row.getRole())) {
+            return "값이 너무 깁니다. (최대 " + MAX_COLUMN_LENGTH + "자)";
+        }
+
+        ReferenceDataSnapshot reference = referenceDataCache.snapshot();
+        if (row.getRankId() != null && reference.rank(row.getRankId()) == null) {
+            return "존재하지 않는 직급입니다: " + row.getRankId();
+        }
+        if (row.getPositionId() != null && reference.position(row.getPositionId()) == null) {
+            return "존재하지 않는 직책입니다: " + row.getPositionId();
+        }
+        if (row.getJobId() != null && reference.job(row.getJobId()) == null) {
+            return "존재하지 않는 직무입니다: " + row.getJobId();
+        }
+        if (row.getEmploymentTypeId() != null && reference.employmentType(row.getEmploymentTypeId()) == null) {
+            return "존재하지 않는 고용형태입니다: " + row.getEmploymentTypeId();
+        }
+        if (row.getOrganizationId() != null && !organizationService.exists(row.getOrganizationId())) {
+            return "존재하지 않는 조직입니다: " + row.getOrganizationId();
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static boolean tooLong(String value) {
+        return value != null && value.length() > MAX_COLUMN_LENGTH;
+    }
+
+    private static UserImportReader.Format resolveFormat(String contentType) {
+        String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+        if (type.startsWith("text/csv")) {
+            return UserImportReader.Format.CSV;
+        }
+        if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+            return UserImportReader.Format.NDJSON;
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다. text/csv 또는 application/x-ndjson 으로 요청해 주세요.");
+    }
+
+    // 업로드 본문을 임시 파일로 복사 (최대 크기 초과 시 중단)
+    private Path spool(InputStream body) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("user-import-", ".tmp");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                byte[] buffer = new byte[64 * 1024];
+                long total = 0;
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    total += read;
+                    if (total > maxBytes) {
+                        throw new BusinessException("업로드 파일이 너무 큽니다. (최대 " + maxBytes + " bytes)", "IMPORT_TOO_LARGE");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new BusinessException("업로드 파일을 읽지 못했습니다.", "IMPORT_UPLOAD_FAILED", e);
+        } catch (BusinessException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[UserImport] 임시 파일 삭제 실패 - {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.AssignmentDto;
+import com.hermes.userservice.dto.UserProfileResponse;
+import com.hermes.userservice.entity.User;
+import com.hermes.userservice.exception.UserNotFoundException;
+import com.hermes.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+// 사용자 프로필 조회 - 사용자 수와 관계없이 쿼리 1회
+// (소속 부서는 엔티티 그래프로 함께 로딩, 직급 등 참조 데이터는 ReferenceDataCache 사용)
+
+@Service
+@RequiredArgsConstructor
+public class UserProfileService {
+
+    private final UserRepository userRepository;
+    private final ReferenceDataCache referenceDataCache;
+
+    @Value("${user.profile.batch-max-size:200}")
+    private int batchMaxSize;
+
+    @Transactional(readOnly = true)
+    public UserProfileResponse getProfile(Long userId) {
+        User user = userRepository.findWithAssignmentsById(userId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        return toProfile(user);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserProfileResponse> getProfiles(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        if (userIds.size() > batchMaxSize) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + batchMaxSize + "명입니다.");
+        }
+        return userRepository.findWithAssignmentsByIdIn(userIds).stream()
+                .map(this::toProfile)
+                .toList();
+    }
+
+    private UserProfileResponse toProfile(User user) {
+        List<AssignmentDto> assignments = user.getAssignments().stream()
+                .map(a -> new AssignmentDto(a.getOrganization().getOrganizationId(), a.getOrganization().getName(),
+                        a.getIsPrimary(), a.getIsLeader()))
+                .toList();
+
+        return UserProfileResponse.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .address(user.getAddress())
+                .joinDate(user.getJoinDate())
+                .isAdmin(user.getIsAdmin())
+                .role(user.getRole())
+                .profileImage(user.getProfileImage())
+                .selfIntroduction(user.getSelfIntroduction())
+                .lastLoginAt(user.getLastLoginAt())
+                .employmentType(referenceDataCache.employmentType(user.getEmploymentType()))
+                .rank(referenceDataCache.rank(user.getRank()))
+                .position(referenceDataCache.position(user.getPosition()))
+                .job(referenceDataCache.job(user.getJob()))
+                .assignments(assignments)
+                .build();
+    }
+}
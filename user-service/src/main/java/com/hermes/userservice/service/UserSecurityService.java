@@ -1,12 +1,12 @@
 package com.hermes.userservice.service;
 
+import com.hermes.userservice.dto.UserAuthInfo;
 import com.hermes.userservice.entity.User;
 import com.hermes.userservice.exception.InvalidCredentialsException;
 import com.hermes.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,45 +18,59 @@ import java.time.LocalDateTime;
 public class UserSecurityService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserAuthCache userAuthCache;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
 // 비밀번호 검증
 
     public void validatePassword(User user, String password) {
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            handleFailedLogin(user);
+        if (!passwordHashingService.matches(password, user.getPassword())) {
+            handleFailedLogin(user.getEmail(), null);
             throw new InvalidCredentialsException("비밀번호가 일치하지 않습니다.");
         }
     }
 
 // 로그인 성공 처리
 
-    @Transactional
-    public void handleSuccessfulLogin(User user) {
-        user.updateLastLogin();
-//        user.resetLoginAttempts();
-        userRepository.save(user);
-        log.info("Login successful for user: {}", user.getEmail());
+    // 마지막 로그인 시각은 write-behind 버퍼를 통해 주기적으로 일괄 반영 (로그인 응답에 UPDATE 비용 미포함)
+    public void handleSuccessfulLogin(UserAuthInfo authInfo) {
+        lastLoginBuffer.record(authInfo.getId(), LocalDateTime.now());
+        loginAttemptLimiter.reset(authInfo.getEmail());
+        log.info("Login successful for user: {}", authInfo.getEmail());
     }
 
 // 로그인 실패 처리
 
-    @Transactional
-    public void handleFailedLogin(User user) {
+    // 실패 횟수는 메모리에서만 집계 (DB 쓰기 없음)
+    public void handleFailedLogin(String email, String clientIp) {
+        loginAttemptLimiter.recordFailure(email, clientIp);
+        log.info("Login failed for email: {}, ip: {}", email, clientIp);
+    }
 
-        userRepository.save(user);
+// 비밀번호 해시 업그레이드 (평문/약한 비용/이전 알고리즘) - 백그라운드에서 재해시 후 저장
+
+    public void upgradePasswordInBackground(UserAuthInfo authInfo, String rawPassword) {
+        passwordHashingService.encodeInBackground(rawPassword, encodedPassword -> {
+            if (userRepository.updatePasswordIfUnchanged(authInfo.getId(), authInfo.getPassword(), encodedPassword) > 0) {
+                userAuthCache.put(authInfo.withPassword(encodedPassword));
+                log.info("Password hash upgraded for user: {}", authInfo.getId());
+            }
+        });
     }
 
 // 비밀번호 변경
 
     @Transactional
     public void changePassword(User user, String oldPassword, String newPassword) {
-        if (!passwordEncoder.matches(oldPassword, user.getPassword())) {
+        if (!passwordHashingService.matches(oldPassword, user.getPassword())) {
             throw new InvalidCredentialsException("현재 비밀번호가 일치하지 않습니다.");
         }
         
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHashingService.encode(newPassword));
         userRepository.save(user);
+        userAuthCache.put(UserAuthInfo.from(user));
         log.info("Password changed for user: {}", user.getEmail());
     }
 }
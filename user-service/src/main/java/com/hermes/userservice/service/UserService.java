@@ -3,18 +3,17 @@ package com.hermes.userservice.service;
 import com.hermes.jwt.JwtTokenProvider;
 import com.hermes.userservice.service.TokenBlacklistService;
 import com.hermes.userservice.dto.LoginRequestDto;
-import com.hermes.userservice.entity.User;
+import com.hermes.userservice.dto.UserAuthInfo;
 import com.hermes.userservice.exception.InvalidCredentialsException;
 import com.hermes.userservice.exception.UserNotFoundException;
 import com.hermes.userservice.jwt.dto.TokenResponse;
-import com.hermes.userservice.jwt.entity.RefreshToken;
-import com.hermes.userservice.jwt.repository.RefreshTokenRepository;
-import com.hermes.userservice.repository.UserRepository;
+import com.hermes.userservice.jwt.service.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
 
 @Slf4j
@@ -22,54 +21,72 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class UserService {
 
-    private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashingService passwordHashingService;
+    private final UserSecurityService userSecurityService;
+    private final UserAuthCache userAuthCache;
     private final TokenBlacklistService tokenBlacklistService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
-    public TokenResponse login(LoginRequestDto loginDto) {
-        // 사용자 조회
-        User user = userRepository.findByEmail(loginDto.getEmail())
-                .orElseThrow(() -> new UserNotFoundException("해당 이메일로 등록된 사용자가 없습니다."));
+    public TokenResponse login(LoginRequestDto loginDto, String clientIp) {
+        // 실패 횟수 제한 - DB 조회/해시 비교 전에 메모리에서 검사
+        loginAttemptLimiter.checkAllowed(loginDto.getEmail(), clientIp);
 
-        // 비밀번호 검증 (BCrypt 암호화된 비밀번호와 비교)
-        if (!passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
-            // 기존 평문 비밀번호와 비교
-            if (!loginDto.getPassword().equals(user.getPassword())) {
-                throw new InvalidCredentialsException("비밀번호가 일치하지 않습니다.");
-            }
-            
-            // 평문 비밀번호를 BCrypt로 암호화하여 업데이트
-            String encodedPassword = passwordEncoder.encode(loginDto.getPassword());
-            user.setPassword(encodedPassword);
-            userRepository.save(user);
+        // 사용자 조회 - 로그인용 projection 캐시 사용 (미스 시에만 DB 조회)
+        UserAuthInfo user = userAuthCache.findByEmail(loginDto.getEmail()).orElse(null);
+        if (user == null) {
+            userSecurityService.handleFailedLogin(loginDto.getEmail(), clientIp);
+            throw new UserNotFoundException("해당 이메일로 등록된 사용자가 없습니다.");
+        }
+
+        // 비밀번호 검증 - 전용 해시 풀에서 수행
+        boolean matched = passwordHashingService.matches(loginDto.getPassword(), user.getPassword());
+        if (!matched && !isLegacyPlaintextMatch(loginDto.getPassword(), user.getPassword())) {
+            userSecurityService.handleFailedLogin(loginDto.getEmail(), clientIp);
+            throw new InvalidCredentialsException("비밀번호가 일치하지 않습니다.");
+        }
+
+        // 평문이거나 현재 설정보다 약한 해시는 응답과 무관하게 백그라운드에서 재해시
+        if (!matched || passwordHashingService.upgradeEncoding(user.getPassword())) {
+            userSecurityService.upgradePasswordInBackground(user, loginDto.getPassword());
         }
 
+        userSecurityService.handleSuccessfulLogin(user);
+
         //  토큰 생성
-        String accessToken = jwtTokenProvider.createToken(user.getEmail(), user.getId(), user.getIsAdmin() ? "ADMIN" : "USER");
+        String accessToken = jwtTokenProvider.createToken(user.getEmail(), user.getId(), user.getRole());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
 
-        //  RefreshToken 저장
-        refreshTokenRepository.save(
-                RefreshToken.builder()
-                        .userId(user.getId())
-                        .token(refreshToken)
-                        .expiration(LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshExpiration() / 1000))
-                        .build()
-        );
+        //  RefreshToken 저장 (로그인마다 새 family)
+        refreshTokenService.issue(user.getId(), refreshToken,
+                LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshExpiration() / 1000));
 
         return new TokenResponse(accessToken, refreshToken);
     }
 
+    // 마이그레이션 이전의 평문 비밀번호 비교 - 해시 형태의 값은 평문으로 취급하지 않음 (상수 시간 비교)
+    private boolean isLegacyPlaintextMatch(String rawPassword, String storedPassword) {
+        if (storedPassword.startsWith("{") || storedPassword.startsWith("$2")) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                rawPassword.getBytes(StandardCharsets.UTF_8),
+                storedPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
     // 로그아웃 메서드 개선 - Access Token과 Refresh Token 모두 블랙리스트에 추가
     public void logout(Long userId, String accessToken, String refreshToken) {
         log.info(" [User Service] 로그아웃 처리 시작 - userId: {}", userId);
         
         try {
-            // 1. RefreshToken 삭제
-            refreshTokenRepository.deleteById(userId);
-            log.info("[User Service] RefreshToken 삭제 완료 - userId: {}", userId);
+            // 1. RefreshToken 폐기 - 토큰이 주어지면 해당 기기만, 아니면 전체 기기
+            if (refreshToken != null && !refreshToken.isEmpty()) {
+                refreshTokenService.revoke(refreshToken);
+            } else {
+                refreshTokenService.revokeAll(userId);
+            }
+            log.info("[User Service] RefreshToken 폐기 완료 - userId: {}", userId);
             
             // 2. Access Token을 블랙리스트에 추가
             if (accessToken != null && !accessToken.isEmpty()) {
@@ -0,0 +1,63 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.service.LoginAttemptLimiter.SlidingWindowCounter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    @Test
+    void sumCountsEveryBucketInsideWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.increment(10);
+        counter.increment(10);
+        counter.increment(11);
+        counter.increment(12);
+
+        assertThat(counter.sum(12)).isEqualTo(4);
+    }
+
+    @Test
+    void bucketsOlderThanWindowAreExcluded() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.increment(10);
+        counter.increment(11);
+        counter.increment(12);
+
+        assertThat(counter.sum(13)).isEqualTo(2);
+        assertThat(counter.sum(15)).isZero();
+    }
+
+    @Test
+    void incrementOnRolledOverSlotResetsPreviousCount() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.increment(10);
+        counter.increment(10);
+        counter.increment(11);
+
+        // 13 은 10 과 같은 슬롯을 사용 - 이전 버킷의 2회는 버려지고 1 부터 다시 센다
+        counter.increment(13);
+
+        assertThat(counter.sum(13)).isEqualTo(2);
+    }
+
+    @Test
+    void oldestBucketIsOldestNonEmptyBucketInsideWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.increment(10);
+        counter.increment(12);
+
+        assertThat(counter.oldestBucket(12)).isEqualTo(10);
+        assertThat(counter.oldestBucket(13)).isEqualTo(12);
+    }
+
+    @Test
+    void emptyCounterReportsZeroAndCurrentBucket() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+
+        assertThat(counter.sum(0)).isZero();
+        assertThat(counter.sum(100)).isZero();
+        assertThat(counter.oldestBucket(100)).isEqualTo(100);
+    }
+}